@@ -0,0 +1,141 @@
+package com.gjaku1031.templateforagent.domain.board;
+
+import com.gjaku1031.templateforagent.domain.user.User;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+/**
+ * 게시글 일괄 삽입 처리량(행/초): id 생성 방식 x JDBC 배치 크기별 비교
+ * <p>{@code BoardService.createAll}과 같이 한 트랜잭션에서 persist 후 커밋.</p>
+ * <ul>
+ *   <li>{@code sequence}: 실제 {@link Board} 매핑(풀링 시퀀스, allocationSize=50) - 배치가 켜지면 INSERT가 묶여 나감</li>
+ *   <li>{@code identity}: 전환 전 매핑을 재현한 {@link IdentityBoard}(IDENTITY) - 행마다 생성 키를 받아야 하므로
+ *       Hibernate가 배치를 끄고 한 건씩 INSERT(배치 크기와 무관)</li>
+ * </ul>
+ * <p>전환 전후 비교는 {@code identity} 대비 {@code sequence/batchSize=50}.</p>
+ * <p>인메모리 H2(PostgreSQL 호환 모드)라 네트워크 왕복 절감분은 반영되지 않으므로,
+ * 절대값이 아니라 배치 크기 간 상대 비교와 할당량(gc 프로파일러)으로 판단.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BoardInsertBenchmark {
+
+    private static final int ROWS = 500;
+
+    @Param({"sequence", "identity"})
+    public String idStrategy;
+
+    @Param({"1", "50"})
+    public int batchSize;
+
+    private LocalContainerEntityManagerFactoryBean factoryBean;
+    private EntityManagerFactory entityManagerFactory;
+    private Long authorId;
+
+    @Setup
+    public void setUp() {
+        factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(new DriverManagerDataSource(
+                "jdbc:h2:mem:board-insert-" + idStrategy + "-" + batchSize + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", ""));
+        factoryBean.setPackagesToScan("com.gjaku1031.templateforagent.domain");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create-drop",
+                "hibernate.jdbc.batch_size", String.valueOf(batchSize),
+                "hibernate.order_inserts", "true"));
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+
+        EntityManager em = entityManagerFactory.createEntityManager();
+        em.getTransaction().begin();
+        User author = User.builder().username("bench-user").email("bench@example.com").role("ROLE_USER").build();
+        em.persist(author);
+        em.getTransaction().commit();
+        em.close();
+        authorId = author.getId();
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() {
+        EntityManager em = entityManagerFactory.createEntityManager();
+        em.getTransaction().begin();
+        em.createQuery("delete from Board").executeUpdate();
+        em.createQuery("delete from IdentityBoard").executeUpdate();
+        em.getTransaction().commit();
+        em.close();
+    }
+
+    @TearDown
+    public void tearDown() {
+        factoryBean.destroy();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void insertAll() {
+        EntityManager em = entityManagerFactory.createEntityManager();
+        em.getTransaction().begin();
+        User author = em.getReference(User.class, authorId);
+        boolean identity = "identity".equals(idStrategy);
+        for (int i = 0; i < ROWS; i++) {
+            em.persist(identity
+                    ? new IdentityBoard(author, "title " + i, "content " + i)
+                    : Board.builder().author(author).title("title " + i).content("content " + i).build());
+        }
+        em.getTransaction().commit();
+        em.close();
+    }
+
+    /**
+     * 시퀀스 전환 전 {@link Board} id 매핑(IDENTITY) 재현용 엔티티(벤치마크 전용 테이블)
+     */
+    @Entity(name = "IdentityBoard")
+    @Table(name = "identity_board")
+    public static class IdentityBoard {
+
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Long id;
+
+        @ManyToOne(fetch = FetchType.LAZY)
+        @JoinColumn(name = "author_id", nullable = false)
+        private User author;
+
+        private String title;
+        private String content;
+
+        protected IdentityBoard() {
+        }
+
+        IdentityBoard(User author, String title, String content) {
+            this.author = author;
+            this.title = title;
+            this.content = content;
+        }
+    }
+}
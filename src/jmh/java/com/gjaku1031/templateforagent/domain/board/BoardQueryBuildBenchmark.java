@@ -0,0 +1,55 @@
+package com.gjaku1031.templateforagent.domain.board;
+
+import com.querydsl.jpa.HQLTemplates;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * {@link BoardRepositoryImpl#search} 쿼리 조립 + JPQL 직렬화 비용(DB 미사용)
+ * <p>요청마다 새로 만드는 QueryDSL 메타데이터/프로젝션과 문자열화까지만 측정.
+ * 이후 HQL 파싱은 Hibernate 쿼리 플랜 캐시가 담당하므로 제외.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BoardQueryBuildBenchmark {
+
+    private BoardRepositoryImpl repository;
+    private Pageable pageable;
+    private List<Long> matchedIds;
+
+    @Setup
+    public void setUp() {
+        // 직렬화만 하므로 EntityManager 없이 Hibernate용 템플릿으로 조립
+        repository = new BoardRepositoryImpl(new JPAQueryFactory(HQLTemplates.DEFAULT, (EntityManager) null), null);
+        pageable = PageRequest.of(3, 20);
+        matchedIds = LongStream.rangeClosed(1, 20).boxed().toList();
+    }
+
+    @Benchmark
+    public String listPage() {
+        return repository.pageQuery(pageable).toString();
+    }
+
+    @Benchmark
+    public String count() {
+        return repository.countQuery().toString();
+    }
+
+    @Benchmark
+    public String keywordMatches() {
+        return repository.summariesQuery(matchedIds).toString();
+    }
+}
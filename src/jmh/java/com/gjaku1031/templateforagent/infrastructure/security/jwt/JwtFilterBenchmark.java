@@ -0,0 +1,53 @@
+package com.gjaku1031.templateforagent.infrastructure.security.jwt;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * JwtFilter 전체 경로(헤더 파싱 → 검증 → 블랙리스트/에폭 → Authentication 설정) 비용
+ * <p>체인은 인증 결과만 소비하는 람다로 대체. 요청 객체는 측정 구간 밖에서 한 번만 생성
+ * (OncePerRequestFilter가 종료 시 "이미 필터링됨" 속성을 지우므로 같은 요청을 반복 사용 가능).</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtFilterBenchmark {
+
+    @Param({"0", "10000"})
+    public long verifiedTokenCacheSize;
+
+    private JwtFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+    private FilterChain chain;
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        JwtFixture fixture = new JwtFixture(verifiedTokenCacheSize);
+        filter = fixture.filter;
+        request = new MockHttpServletRequest("GET", "/api/boards/1");
+        request.addHeader("Authorization", "Bearer " + fixture.accessToken());
+        response = new MockHttpServletResponse();
+        chain = (req, res) -> blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Benchmark
+    public void doFilter() throws ServletException, IOException {
+        filter.doFilter(request, response, chain);
+        SecurityContextHolder.clearContext();
+    }
+}
@@ -0,0 +1,72 @@
+package com.gjaku1031.templateforagent.infrastructure.security.jwt;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.gjaku1031.templateforagent.infrastructure.config.JwtConfig;
+import com.gjaku1031.templateforagent.infrastructure.security.jwt.blacklist.TokenBlacklist;
+import com.gjaku1031.templateforagent.infrastructure.security.jwt.epoch.TokenEpochStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+/**
+ * 벤치마크용 JWT 구성 요소 조립
+ * <p>Redis는 기동 시점(에폭 최초 로딩, 블랙리스트 동기화)에만 호출되도록 목으로 대체.
+ * 측정 구간에서는 운영과 같은 로컬 캐시/Bloom 필터 경로만 탐.</p>
+ */
+final class JwtFixture {
+
+    static final long USER_ID = 42L;
+    static final String USERNAME = "bench-user";
+    static final String ROLE = "ROLE_USER";
+    static final String SID = "bench-session";
+
+    final JwtConfig config;
+    final JwtProvider provider;
+    final JwtUtil util;
+    final JwtFilter filter;
+
+    @SuppressWarnings("unchecked")
+    JwtFixture(long verifiedTokenCacheSize) {
+        config = new JwtConfig();
+        config.setSecret("jmh-benchmark-secret-key-0123456789abcdef");
+        config.setAccessTokenExpiration(3_600_000);
+        config.setRefreshTokenExpiration(1_209_600_000);
+        config.setIssuer("templateForAgent");
+        config.setVerifiedTokenCacheSize(verifiedTokenCacheSize);
+
+        RedisTemplate<String, String> redis = mock(RedisTemplate.class);
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        Cursor<String> emptyCursor = mock(Cursor.class);
+        when(redis.opsForValue()).thenReturn(values);
+        when(values.get(anyString())).thenReturn(null);
+        when(redis.scan(any(ScanOptions.class))).thenReturn(emptyCursor);
+        RedisMessageListenerContainer container = mock(RedisMessageListenerContainer.class);
+
+        TokenEpochStore epochStore = new TokenEpochStore(redis, config, container);
+        TokenBlacklist blacklist = new TokenBlacklist(redis, config, container, new SimpleMeterRegistry());
+        blacklist.resync();
+
+        provider = new JwtProvider(config, epochStore);
+        provider.init();
+        util = new JwtUtil(config,
+                username -> { throw new UsernameNotFoundException(username); },
+                provider,
+                new VerifiedTokenCache(config),
+                blacklist,
+                epochStore);
+        util.init();
+        filter = new JwtFilter(util, new SimpleMeterRegistry());
+    }
+
+    String accessToken() {
+        return provider.createAccessToken(USER_ID, USERNAME, ROLE, SID);
+    }
+}
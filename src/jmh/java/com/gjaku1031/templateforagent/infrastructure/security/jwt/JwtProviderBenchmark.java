@@ -0,0 +1,36 @@
+package com.gjaku1031.templateforagent.infrastructure.security.jwt;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 토큰 발급(클레임 구성 + HS256 서명 + 직렬화) 비용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtProviderBenchmark {
+
+    private JwtFixture fixture;
+
+    @Setup
+    public void setUp() {
+        fixture = new JwtFixture(10_000);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return fixture.provider.createAccessToken(JwtFixture.USER_ID, JwtFixture.USERNAME, JwtFixture.ROLE, JwtFixture.SID);
+    }
+
+    @Benchmark
+    public IssuedToken createRefreshToken() {
+        return fixture.provider.createRefreshToken(JwtFixture.USER_ID, JwtFixture.USERNAME, JwtFixture.SID);
+    }
+}
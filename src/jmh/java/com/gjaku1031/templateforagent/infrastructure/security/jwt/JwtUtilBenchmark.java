@@ -0,0 +1,45 @@
+package com.gjaku1031.templateforagent.infrastructure.security.jwt;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 토큰 검증/클레임 조회 비용
+ * <p>{@code verifiedTokenCacheSize=0}이면 매번 서명 검증과 클레임 파싱을 수행(캐시 미스),
+ * 그 외에는 같은 토큰을 반복 제시하는 클라이언트처럼 검증 캐시 적중 경로를 측정.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtUtilBenchmark {
+
+    @Param({"0", "10000"})
+    public long verifiedTokenCacheSize;
+
+    private JwtFixture fixture;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        fixture = new JwtFixture(verifiedTokenCacheSize);
+        token = fixture.accessToken();
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return fixture.util.validateToken(token);
+    }
+
+    @Benchmark
+    public String getUsername() {
+        // getClaims(캐시 → 파서) 경유
+        return fixture.util.getUsername(token);
+    }
+}
@@ -0,0 +1,94 @@
+package com.gjaku1031.templateforagent.presentation.board.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gjaku1031.templateforagent.domain.board.Board;
+import com.gjaku1031.templateforagent.domain.board.BoardSummary;
+import com.gjaku1031.templateforagent.domain.user.User;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * 목록 응답 변환 + Jackson 직렬화 비용
+ * <p>엔티티 → {@link BoardResponse}(본문 전체)와 프로젝션 → {@link BoardSummaryResponse}(미리보기)를
+ * 같은 데이터로 비교. {@code responseBytes} 보조 카운터로 페이지당 응답 크기도 함께 기록
+ * (결과 JSON의 secondaryMetrics, 반복당 합계를 ops로 나누면 페이지당 바이트).</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BoardPageSerializationBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"200", "4000"})
+    public int contentLength;
+
+    private ObjectMapper objectMapper;
+    private List<Board> boards;
+    private List<BoardSummary> summaries;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Bytes {
+        public long responseBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            responseBytes = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        // 스프링 부트 기본 설정과 같은 빌더(JavaTimeModule, 날짜 문자열 출력)
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        User author = User.builder().id(1L).username("bench-user").email("bench@example.com").role("ROLE_USER").build();
+        String content = "가나다라마바사 lorem ipsum ".repeat(contentLength / 20 + 1).substring(0, contentLength);
+        LocalDateTime now = LocalDateTime.now();
+
+        boards = new ArrayList<>(PAGE_SIZE);
+        summaries = new ArrayList<>(PAGE_SIZE);
+        for (long id = 1; id <= PAGE_SIZE; id++) {
+            Board board = Board.builder().id(id).author(author).title("게시글 제목 " + id).content(content).version(0L).build();
+            ReflectionTestUtils.setField(board, "createdAt", now);
+            ReflectionTestUtils.setField(board, "updatedAt", now);
+            boards.add(board);
+            // DB에서 substring으로 잘라 읽는 것과 같은 입력
+            String rawPreview = content.substring(0, Math.min(content.length(), BoardSummary.PREVIEW_LENGTH + 1));
+            summaries.add(new BoardSummary(id, board.getTitle(), rawPreview, author.getId(), author.getUsername(), now, now));
+        }
+    }
+
+    @Benchmark
+    public byte[] boardResponsePage(Bytes bytes) throws JsonProcessingException {
+        List<BoardResponse> content = boards.stream().map(BoardResponse::from).toList();
+        byte[] json = objectMapper.writeValueAsBytes(new PageImpl<>(content, PageRequest.of(0, PAGE_SIZE), 1_000));
+        bytes.responseBytes += json.length;
+        return json;
+    }
+
+    @Benchmark
+    public byte[] summaryResponsePage(Bytes bytes) throws JsonProcessingException {
+        List<BoardSummaryResponse> content = summaries.stream().map(BoardSummaryResponse::from).toList();
+        byte[] json = objectMapper.writeValueAsBytes(new PageImpl<>(content, PageRequest.of(0, PAGE_SIZE), 1_000));
+        bytes.responseBytes += json.length;
+        return json;
+    }
+}
@@ -0,0 +1,101 @@
+package com.gjaku1031.templateforagent.loadtest;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.HdrHistogram.Histogram;
+
+/**
+ * 가상 사용자별 히스토그램을 합쳐 출력/저장하고 기준선과 비교
+ * <p>출력물({@code loadtest.output-dir})</p>
+ * <ul>
+ *   <li>{@code results.json}: 작업별 {@link OperationStats}(기준선 파일과 같은 형식)</li>
+ *   <li>{@code <operation>.hgrm}: HdrHistogram 백분위 분포(ms), HistogramPlotter 등으로 그래프화</li>
+ * </ul>
+ */
+final class LoadTestReport {
+
+    private static final TypeReference<Map<Operation, OperationStats>> STATS_TYPE = new TypeReference<>() {
+    };
+
+    private final Map<Operation, Histogram> responseTimes = new EnumMap<>(Operation.class);
+    private final Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+    private final ObjectMapper objectMapper;
+
+    LoadTestReport(List<VirtualUser> users, double measuredSeconds, ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT);
+        for (Operation operation : Operation.values()) {
+            Histogram response = new Histogram(3);
+            Histogram service = new Histogram(3);
+            long errors = 0;
+            for (VirtualUser user : users) {
+                response.add(user.responseTimes().get(operation));
+                service.add(user.serviceTimes().get(operation));
+                errors += user.errors(operation);
+            }
+            if (response.getTotalCount() == 0) continue;
+            responseTimes.put(operation, response);
+            stats.put(operation, OperationStats.of(response, service, errors, measuredSeconds));
+        }
+    }
+
+    void print(PrintStream out) {
+        out.printf("%-14s %9s %7s %9s %9s %9s %9s %9s %9s %11s%n",
+                "operation", "count", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "max(ms)", "svc p99(ms)");
+        stats.forEach((operation, s) -> out.printf(Locale.ROOT, "%-14s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %11.2f%n",
+                operation, s.count(), s.errors(), s.requestsPerSecond(), s.p50(), s.p90(), s.p99(), s.p999(), s.max(), s.serviceP99()));
+    }
+
+    void write(Path outputDir) throws IOException {
+        Files.createDirectories(outputDir);
+        objectMapper.writeValue(outputDir.resolve("results.json").toFile(), stats);
+        for (Map.Entry<Operation, Histogram> entry : responseTimes.entrySet()) {
+            Path file = outputDir.resolve(entry.getKey().key() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                entry.getValue().outputPercentileDistribution(out, 1_000_000.0);
+            }
+        }
+    }
+
+    void saveAsBaseline(Path baseline) throws IOException {
+        if (baseline.getParent() != null) Files.createDirectories(baseline.getParent());
+        objectMapper.writeValue(baseline.toFile(), stats);
+    }
+
+    /**
+     * 기준선 대비 회귀 목록(없으면 통과)
+     * <p>작업별로 p99 증가, 처리량 감소가 {@code threshold}를 넘거나 오류율이 1%p 이상 늘면 회귀.
+     * 기준선에 없는 작업은 비교하지 않음.</p>
+     */
+    List<String> regressionsAgainst(Path baseline, double threshold) throws IOException {
+        Map<Operation, OperationStats> base = objectMapper.readValue(baseline.toFile(), STATS_TYPE);
+        List<String> regressions = new ArrayList<>();
+        base.forEach((operation, expected) -> {
+            OperationStats actual = stats.get(operation);
+            if (actual == null) return;
+            if (actual.p99() > expected.p99() * (1 + threshold)) {
+                regressions.add(describe(operation, "p99", expected.p99(), actual.p99(), "ms"));
+            }
+            if (actual.requestsPerSecond() < expected.requestsPerSecond() * (1 - threshold)) {
+                regressions.add(describe(operation, "throughput", expected.requestsPerSecond(), actual.requestsPerSecond(), "req/s"));
+            }
+            if (actual.errorRatio() > expected.errorRatio() + 0.01) {
+                regressions.add(describe(operation, "error ratio", expected.errorRatio() * 100, actual.errorRatio() * 100, "%"));
+            }
+        });
+        return regressions;
+    }
+
+    private static String describe(Operation operation, String metric, double expected, double actual, String unit) {
+        return String.format(Locale.ROOT, "%s %s: baseline %.2f%s -> %.2f%s", operation, metric, expected, unit, actual, unit);
+    }
+}
@@ -0,0 +1,135 @@
+package com.gjaku1031.templateforagent.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fppt.jedismock.RedisServer;
+import com.gjaku1031.templateforagent.TemplateForAgentApplication;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 오프라인 부하 테스트 진입점({@code ./gradlew loadTest})
+ * <p>외부 인프라 없이 한 JVM 안에서 실행.</p>
+ * <ul>
+ *   <li>DB: H2 PostgreSQL 호환 모드({@code loadtest} 프로필)</li>
+ *   <li>Redis: jedis-mock 인프로세스 서버(RESP 프로토콜, Lua 스크립트/PubSub 지원), 앱은 평소처럼 Lettuce로 접속</li>
+ * </ul>
+ * <p>가입/로그인/시드 → 워밍업 → 측정 순으로 진행하고, 결과를 출력/저장한 뒤 기준선과 비교해
+ * 회귀가 있으면 종료 코드 1. {@code loadtest.update-baseline=true}일 때만 이번 결과를 기준선으로 저장.</p>
+ * <p>기준선 파일이 없으면 측정 없이 바로 종료 코드 1(새 체크아웃에서 비교 없이 통과하지 않도록).</p>
+ * <ul>
+ *   <li>CI: 기준 브랜치에서 만든 기준선을 아티팩트로 받아 {@code -Ploadtest.baseline=<경로>}로 지정</li>
+ *   <li>기준선 생성/갱신: 같은 러너 사양에서 {@code -Ploadtest.update-baseline=true}로 실행 후 결과를 아티팩트로 보관</li>
+ * </ul>
+ */
+public final class LoadTestRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTestRunner.class);
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        if (!settings.updateBaseline() && !Files.exists(settings.baseline())) {
+            log.error("Baseline {} not found: pass -Ploadtest.baseline=<path> or record one with -Ploadtest.update-baseline=true",
+                    settings.baseline().toAbsolutePath());
+            System.exit(1);
+        }
+        List<String> regressions;
+        RedisServer redis = RedisServer.newRedisServer();
+        redis.start();
+        try (ConfigurableApplicationContext app = boot(settings, redis)) {
+            int port = ((WebServerApplicationContext) app).getWebServer().getPort();
+            ObjectMapper objectMapper = app.getBean(ObjectMapper.class);
+            LoadTestReport report = drive(settings, URI.create("http://localhost:" + port), objectMapper);
+
+            report.print(System.out);
+            report.write(settings.outputDir());
+            log.info("Results written to {}", settings.outputDir().toAbsolutePath());
+
+            if (settings.updateBaseline()) {
+                report.saveAsBaseline(settings.baseline());
+                log.info("Baseline saved to {}", settings.baseline().toAbsolutePath());
+                regressions = List.of();
+            } else {
+                regressions = report.regressionsAgainst(settings.baseline(), settings.threshold());
+            }
+        } finally {
+            redis.stop();
+        }
+
+        if (!regressions.isEmpty()) {
+            regressions.forEach(r -> log.error("Regression: {}", r));
+            System.exit(1);
+        }
+        System.exit(0);
+    }
+
+    private static ConfigurableApplicationContext boot(LoadTestSettings settings, RedisServer redis) {
+        List<String> profiles = new ArrayList<>(List.of("loadtest"));
+        for (String profile : settings.profiles().split(",")) {
+            if (!profile.isBlank()) profiles.add(profile.trim());
+        }
+        return new SpringApplicationBuilder(TemplateForAgentApplication.class)
+                .profiles(profiles.toArray(String[]::new))
+                .properties(
+                        "server.port=0",
+                        "spring.data.redis.host=" + redis.getHost(),
+                        "spring.data.redis.port=" + redis.getBindPort())
+                .run();
+    }
+
+    private static LoadTestReport drive(LoadTestSettings settings, URI baseUri, ObjectMapper objectMapper) throws Exception {
+        OperationMix mix = OperationMix.parse(settings.mix());
+        SharedBoardIds sharedBoards = new SharedBoardIds(4_096);
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        List<VirtualUser> users = new ArrayList<>(settings.users());
+        for (int i = 0; i < settings.users(); i++) {
+            users.add(new VirtualUser(i, baseUri, http, objectMapper, mix, sharedBoards, 31L * i + 7));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(settings.users());
+        try {
+            log.info("Preparing {} users ({} boards each)", settings.users(), settings.boardsPerUser());
+            List<Future<?>> prepared = new ArrayList<>();
+            for (VirtualUser user : users) {
+                prepared.add(executor.submit(() -> {
+                    user.prepare(settings.boardsPerUser());
+                    return null;
+                }));
+            }
+            for (Future<?> future : prepared) future.get();
+
+            long start = System.nanoTime() + Duration.ofMillis(100).toNanos();
+            long measureFrom = start + settings.warmup().toNanos();
+            long end = measureFrom + settings.duration().toNanos();
+            log.info("Running: {} users x {} req/s, warmup {}, measure {}",
+                    settings.users(), settings.ratePerUser(), settings.warmup(), settings.duration());
+            List<Future<?>> running = new ArrayList<>();
+            for (VirtualUser user : users) {
+                user.schedule(start, measureFrom, end, settings.ratePerUser());
+                running.add(executor.submit(user));
+            }
+            for (Future<?> future : running) future.get();
+        } finally {
+            executor.shutdownNow();
+        }
+        return new LoadTestReport(users, settings.duration().toNanos() / 1e9, objectMapper);
+    }
+}
@@ -0,0 +1,43 @@
+package com.gjaku1031.templateforagent.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 부하 테스트 설정({@code -Ploadtest.*} → 시스템 프로퍼티)
+ *
+ * @param users          가상 사용자 수(사용자당 스레드 하나, 응답을 받은 뒤 다음 요청을 보내는 closed-loop)
+ * @param ratePerUser    사용자당 목표 요청률(req/s), 지연은 이 일정상의 "보냈어야 할 시각"부터 측정
+ * @param warmup         측정 전 워밍업 시간
+ * @param duration       측정 시간
+ * @param boardsPerUser  측정 전 사용자별로 미리 만들 게시글 수
+ * @param mix            작업 비율({@code get:45,search:25,...})
+ * @param profiles       추가 활성 프로필(예: {@code virtual})
+ * @param baseline       기준선 파일(없으면 실패, CI는 {@code -Ploadtest.baseline=<경로>}로 지정)
+ * @param outputDir      결과 출력 디렉토리
+ * @param threshold      허용 회귀 비율(0.2 = p99 20% 증가 또는 처리량 20% 감소까지 허용)
+ * @param updateBaseline 이번 결과로 기준선 생성/갱신 여부(이때만 기준선 없이 실행 가능)
+ */
+record LoadTestSettings(int users, double ratePerUser, Duration warmup, Duration duration, int boardsPerUser,
+                        String mix, String profiles, Path baseline, Path outputDir, double threshold,
+                        boolean updateBaseline) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Integer.parseInt(property("users", "32")),
+                Double.parseDouble(property("rate-per-user", "20")),
+                Duration.parse(property("warmup", "PT10S")),
+                Duration.parse(property("duration", "PT60S")),
+                Integer.parseInt(property("boards-per-user", "5")),
+                property("mix", OperationMix.DEFAULT),
+                property("profiles", ""),
+                Path.of(property("baseline", "src/loadTest/baseline.json")),
+                Path.of(property("output-dir", "build/loadtest")),
+                Double.parseDouble(property("threshold", "0.2")),
+                Boolean.parseBoolean(property("update-baseline", "false")));
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+}
@@ -0,0 +1,30 @@
+package com.gjaku1031.templateforagent.loadtest;
+
+/**
+ * 부하 테스트 작업 종류(엔드포인트 단위로 지연/처리량 집계)
+ */
+enum Operation {
+    LOGIN("login"),
+    REFRESH("refresh"),
+    BOARD_CREATE("create"),
+    BOARD_SEARCH("search"),
+    BOARD_GET("get"),
+    BOARD_UPDATE("update");
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    static Operation fromKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equalsIgnoreCase(key)) return operation;
+        }
+        throw new IllegalArgumentException("Unknown load test operation: " + key);
+    }
+}
@@ -0,0 +1,54 @@
+package com.gjaku1031.templateforagent.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+/**
+ * 가중치 기반 작업 선택기
+ * <p>{@code get:45,search:25,create:10,update:10,refresh:8,login:2} 형식을 누적 가중치로 변환.</p>
+ */
+final class OperationMix {
+
+    // 읽기 위주 게시판 트래픽: 단건 조회 > 검색 > 쓰기, 로그인(BCrypt)은 드물게
+    static final String DEFAULT = "get:45,search:25,create:10,update:10,refresh:8,login:2";
+
+    private final Operation[] operations;
+    private final int[] cumulative;
+    private final int total;
+
+    private OperationMix(Operation[] operations, int[] cumulative) {
+        this.operations = operations;
+        this.cumulative = cumulative;
+        this.total = cumulative[cumulative.length - 1];
+    }
+
+    static OperationMix parse(String spec) {
+        List<Operation> operations = new ArrayList<>();
+        List<Integer> weights = new ArrayList<>();
+        for (String part : spec.split(",")) {
+            String[] pair = part.trim().split(":");
+            if (pair.length != 2) throw new IllegalArgumentException("Invalid mix entry: " + part);
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight <= 0) continue;
+            operations.add(Operation.fromKey(pair[0].trim()));
+            weights.add(weight);
+        }
+        if (operations.isEmpty()) throw new IllegalArgumentException("Empty operation mix: " + spec);
+        int[] cumulative = new int[weights.size()];
+        int sum = 0;
+        for (int i = 0; i < cumulative.length; i++) {
+            sum += weights.get(i);
+            cumulative[i] = sum;
+        }
+        return new OperationMix(operations.toArray(Operation[]::new), cumulative);
+    }
+
+    Operation pick(RandomGenerator random) {
+        int r = random.nextInt(total);
+        for (int i = 0; i < cumulative.length; i++) {
+            if (r < cumulative[i]) return operations[i];
+        }
+        return operations[operations.length - 1];
+    }
+}
@@ -0,0 +1,44 @@
+package com.gjaku1031.templateforagent.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+/**
+ * 작업별 측정 결과(지연은 ms, coordinated omission 보정된 일정 지연 기준)
+ *
+ * @param count         측정 구간 요청 수
+ * @param errors        2xx가 아니거나 I/O 실패한 요청 수
+ * @param requestsPerSecond 처리량
+ * @param p50           중앙값
+ * @param p90           90 백분위
+ * @param p99           99 백분위
+ * @param p999          99.9 백분위
+ * @param max           최대
+ * @param serviceP99    서비스 시간(실제 송신 → 응답) 99 백분위, 일정 지연과 차이가 크면 큐잉 발생
+ */
+record OperationStats(long count, long errors, double requestsPerSecond,
+                      double p50, double p90, double p99, double p999, double max, double serviceP99) {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    static OperationStats of(Histogram responseTimes, Histogram serviceTimes, long errors, double seconds) {
+        long count = responseTimes.getTotalCount();
+        return new OperationStats(
+                count,
+                errors,
+                count / seconds,
+                millis(responseTimes, 50),
+                millis(responseTimes, 90),
+                millis(responseTimes, 99),
+                millis(responseTimes, 99.9),
+                responseTimes.getMaxValue() / NANOS_PER_MILLI,
+                millis(serviceTimes, 99));
+    }
+
+    double errorRatio() {
+        return count == 0 ? 0 : (double) errors / count;
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+}
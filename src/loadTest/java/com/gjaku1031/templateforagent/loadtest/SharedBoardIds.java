@@ -0,0 +1,33 @@
+package com.gjaku1031.templateforagent.loadtest;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.random.RandomGenerator;
+
+/**
+ * 가상 사용자들이 만든 게시글 id 링 버퍼(조회 대상 무작위 선택용)
+ * <p>최근 {@code capacity}개만 유지해 단건 조회가 캐시 적중/미스를 고루 겪도록 함.</p>
+ */
+final class SharedBoardIds {
+
+    private final AtomicLongArray ids;
+    private final AtomicLong written = new AtomicLong();
+
+    SharedBoardIds(int capacity) {
+        this.ids = new AtomicLongArray(capacity);
+    }
+
+    void add(long id) {
+        ids.set((int) (written.getAndIncrement() % ids.length()), id);
+    }
+
+    /**
+     * 임의의 게시글 id(아직 없으면 -1)
+     */
+    long random(RandomGenerator random) {
+        long size = Math.min(written.get(), ids.length());
+        if (size == 0) return -1;
+        long id = ids.get(random.nextInt((int) size));
+        return id == 0 ? -1 : id;
+    }
+}
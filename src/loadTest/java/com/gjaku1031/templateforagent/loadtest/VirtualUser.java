@@ -0,0 +1,226 @@
+package com.gjaku1031.templateforagent.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.Histogram;
+
+/**
+ * 가상 사용자(스레드 하나가 한 사용자의 세션을 흉내)
+ * <p>응답을 받은 뒤에야 다음 요청을 보내는 closed-loop이지만, 요청은 {@code 1 / ratePerUser} 간격의
+ * 고정 일정에 맞춰 보냄. 지연은 실제 송신 시각이 아니라 일정상 "보냈어야 할 시각"부터 측정하므로
+ * 서버가 멈춘 동안 밀린 요청들의 대기 시간도 히스토그램에 그대로 반영(coordinated omission 보정).</p>
+ */
+final class VirtualUser implements Runnable {
+
+    private static final String[] KEYWORDS = {"성능", "캐시", "redis", "jwt", "batch", "게시판", "index", "spring"};
+
+    private final int index;
+    private final String username;
+    private final String password;
+    private final URI baseUri;
+    private final HttpClient http;
+    private final ObjectMapper objectMapper;
+    private final OperationMix mix;
+    private final SharedBoardIds sharedBoards;
+    private final SplittableRandom random;
+    private final List<Long> ownBoards = new ArrayList<>();
+
+    // 일정 지연(보냈어야 할 시각 → 응답), 서비스 시간(실제 송신 → 응답)
+    private final Map<Operation, Histogram> responseTimes = new EnumMap<>(Operation.class);
+    private final Map<Operation, Histogram> serviceTimes = new EnumMap<>(Operation.class);
+    private final Map<Operation, long[]> errors = new EnumMap<>(Operation.class);
+
+    private String accessToken;
+    private String refreshToken;
+
+    // run() 실행 구간(나노초, System.nanoTime 기준)
+    private long startNanos;
+    private long measureFromNanos;
+    private long endNanos;
+    private long intervalNanos;
+
+    VirtualUser(int index, URI baseUri, HttpClient http, ObjectMapper objectMapper, OperationMix mix,
+                SharedBoardIds sharedBoards, long seed) {
+        this.index = index;
+        this.username = "loadtest-user-" + index;
+        this.password = "loadtest-password-" + index;
+        this.baseUri = baseUri;
+        this.http = http;
+        this.objectMapper = objectMapper;
+        this.mix = mix;
+        this.sharedBoards = sharedBoards;
+        this.random = new SplittableRandom(seed);
+        for (Operation operation : Operation.values()) {
+            responseTimes.put(operation, new Histogram(3));
+            serviceTimes.put(operation, new Histogram(3));
+            errors.put(operation, new long[1]);
+        }
+    }
+
+    /**
+     * 가입 → 로그인 → 게시글 시드(측정 대상 아님)
+     */
+    void prepare(int boards) throws IOException, InterruptedException {
+        HttpResponse<String> registered = send(post("/api/users/register",
+                Map.of("username", username, "email", username + "@loadtest.local", "password", password), false));
+        if (registered.statusCode() / 100 != 2) {
+            throw new IllegalStateException("Register failed for " + username + ": " + registered.statusCode());
+        }
+        if (!login()) throw new IllegalStateException("Login failed for " + username);
+        for (int i = 0; i < boards; i++) {
+            if (!createBoard()) throw new IllegalStateException("Seeding boards failed for " + username);
+        }
+    }
+
+    void schedule(long startNanos, long measureFromNanos, long endNanos, double ratePerUser) {
+        this.intervalNanos = (long) (1_000_000_000L / ratePerUser);
+        // 사용자끼리 같은 순간에 몰리지 않도록 첫 요청 시각을 간격 내에서 분산
+        this.startNanos = startNanos + random.nextLong(intervalNanos);
+        this.measureFromNanos = measureFromNanos;
+        this.endNanos = endNanos;
+    }
+
+    @Override
+    public void run() {
+        long intended = startNanos;
+        while (intended < endNanos) {
+            long now;
+            while ((now = System.nanoTime()) < intended) {
+                LockSupport.parkNanos(intended - now);
+            }
+            Operation operation = mix.pick(random);
+            long sent = System.nanoTime();
+            boolean ok;
+            try {
+                ok = execute(operation);
+            } catch (IOException e) {
+                ok = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long done = System.nanoTime();
+            if (intended >= measureFromNanos) {
+                responseTimes.get(operation).recordValue(done - intended);
+                serviceTimes.get(operation).recordValue(done - sent);
+                if (!ok) errors.get(operation)[0]++;
+            }
+            intended += intervalNanos;
+        }
+    }
+
+    Map<Operation, Histogram> responseTimes() {
+        return responseTimes;
+    }
+
+    Map<Operation, Histogram> serviceTimes() {
+        return serviceTimes;
+    }
+
+    long errors(Operation operation) {
+        return errors.get(operation)[0];
+    }
+
+    private boolean execute(Operation operation) throws IOException, InterruptedException {
+        return switch (operation) {
+            case LOGIN -> login();
+            case REFRESH -> refresh();
+            case BOARD_CREATE -> createBoard();
+            case BOARD_SEARCH -> ok(send(get("/api/boards?page=0&size=20&keyword=" + KEYWORDS[random.nextInt(KEYWORDS.length)])));
+            case BOARD_GET -> {
+                long id = sharedBoards.random(random);
+                yield id < 0 ? createBoard() : ok(send(get("/api/boards/" + id)));
+            }
+            case BOARD_UPDATE -> {
+                if (ownBoards.isEmpty()) yield createBoard();
+                long id = ownBoards.get(random.nextInt(ownBoards.size()));
+                yield ok(send(put("/api/boards/" + id, Map.of("title", title(), "content", content()))));
+            }
+        };
+    }
+
+    private boolean login() throws IOException, InterruptedException {
+        return storeTokens(send(post("/api/users/login", Map.of("username", username, "password", password), false)));
+    }
+
+    private boolean refresh() throws IOException, InterruptedException {
+        return storeTokens(send(post("/api/users/refresh", Map.of("refreshToken", refreshToken), false)));
+    }
+
+    private boolean createBoard() throws IOException, InterruptedException {
+        HttpResponse<String> response = send(post("/api/boards", Map.of("title", title(), "content", content()), true));
+        if (!ok(response)) return false;
+        long id = Long.parseLong(response.body().trim());
+        ownBoards.add(id);
+        sharedBoards.add(id);
+        return true;
+    }
+
+    private boolean storeTokens(HttpResponse<String> response) throws IOException {
+        if (!ok(response)) return false;
+        JsonNode tokens = objectMapper.readTree(response.body());
+        accessToken = tokens.path("accessToken").asText();
+        refreshToken = tokens.path("refreshToken").asText();
+        return true;
+    }
+
+    private String title() {
+        return KEYWORDS[random.nextInt(KEYWORDS.length)] + " 게시글 " + index + "-" + random.nextInt(1_000_000);
+    }
+
+    private String content() {
+        // 미리보기(200자)보다 긴 본문이 섞이도록 80~2000자
+        int length = 80 + random.nextInt(1_920);
+        StringBuilder sb = new StringBuilder(length);
+        while (sb.length() < length) {
+            sb.append(KEYWORDS[random.nextInt(KEYWORDS.length)]).append(' ');
+        }
+        return sb.substring(0, length);
+    }
+
+    private HttpRequest get(String path) {
+        return authorized(request(path).GET()).build();
+    }
+
+    private HttpRequest post(String path, Map<String, ?> body, boolean authorized) throws IOException {
+        HttpRequest.Builder builder = request(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+        return (authorized ? authorized(builder) : builder).build();
+    }
+
+    private HttpRequest put(String path, Map<String, ?> body) throws IOException {
+        return authorized(request(path)
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body))))
+                .build();
+    }
+
+    private HttpRequest.Builder authorized(HttpRequest.Builder builder) {
+        return builder.header("Authorization", "Bearer " + accessToken);
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).timeout(Duration.ofSeconds(30));
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return http.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static boolean ok(HttpResponse<?> response) {
+        return response.statusCode() / 100 == 2;
+    }
+}
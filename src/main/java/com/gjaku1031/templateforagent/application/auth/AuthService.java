@@ -1,17 +1,28 @@
 package com.gjaku1031.templateforagent.application.auth;
 
+import com.gjaku1031.templateforagent.domain.user.User;
+import com.gjaku1031.templateforagent.domain.user.UserRepository;
 import com.gjaku1031.templateforagent.infrastructure.config.JwtConfig;
+import com.gjaku1031.templateforagent.infrastructure.security.CustomUserDetails;
+import com.gjaku1031.templateforagent.infrastructure.security.jwt.IssuedToken;
+import com.gjaku1031.templateforagent.infrastructure.security.jwt.VerifiedToken;
+import com.gjaku1031.templateforagent.infrastructure.security.jwt.epoch.TokenEpochStore;
 import com.gjaku1031.templateforagent.infrastructure.security.jwt.JwtProvider;
 import com.gjaku1031.templateforagent.infrastructure.security.jwt.JwtUtil;
+import com.gjaku1031.templateforagent.infrastructure.security.jwt.session.RefreshSessionStore;
 import com.gjaku1031.templateforagent.presentation.user.dto.TokenResponse;
 import com.gjaku1031.templateforagent.common.error.exception.UnauthorizedException;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 
+@Slf4j
 @Service
+@Timed("service.method")
 @RequiredArgsConstructor
 public class AuthService {
 
@@ -19,37 +30,79 @@ public class AuthService {
     private final JwtProvider jwtProvider;
     private final JwtUtil jwtUtil;
     private final JwtConfig jwtConfig;
+    private final UserRepository userRepository;
+    private final TokenEpochStore tokenEpochStore;
+    private final RefreshSessionStore refreshSessionStore;
 
     public TokenResponse login(String username, String password) {
         Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(username, password)
         );
+        CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+        Long userId = principal.getUser().getId();
         String role = authentication.getAuthorities().iterator().next().getAuthority();
-        String accessToken = jwtProvider.createAccessToken(username, role);
-        String refreshToken = jwtProvider.createRefreshToken(username);
-        return new TokenResponse("Bearer", accessToken, jwtConfig.getAccessTokenExpiration(), refreshToken);
+        // 로그인마다 새 세션(기기) 생성
+        String sid = jwtProvider.newId();
+        IssuedToken refreshToken = jwtProvider.createRefreshToken(userId, username, sid);
+        refreshSessionStore.open(userId, sid, refreshToken);
+        String accessToken = jwtProvider.createAccessToken(userId, username, role, sid);
+        return new TokenResponse("Bearer", accessToken, jwtConfig.getAccessTokenExpiration(), refreshToken.value());
     }
 
+    /**
+     * 리프레시 토큰 회전
+     * <p>새 토큰을 먼저 서명한 뒤 세션 저장소의 compare-and-swap 스크립트 한 번으로 검증과 교체를 함께 처리.
+     * 직전 토큰이 유예 시간 안에 다시 제시되면(병렬 리프레시) 현재 리프레시 토큰과 새 액세스 토큰을 돌려주고,
+     * 그보다 오래된 토큰이 제시되면 해당 세션을 폐기하고 거부.</p>
+     */
     public TokenResponse refresh(String refreshToken) {
-        if (refreshToken == null || !jwtUtil.validateToken(refreshToken) || jwtUtil.isExpired(refreshToken) || !jwtUtil.isValidRefreshToken(refreshToken)) {
+        VerifiedToken verified = refreshToken == null ? null : jwtUtil.verify(refreshToken).orElse(null);
+        // 액세스 토큰(role 보유)이나 세션 도입 이전 토큰(uid/sid 없음)은 리프레시에 사용할 수 없음
+        if (verified == null || verified.hasRole() || verified.userId() == null || verified.sid() == null
+                || !jwtUtil.isCurrentEpoch(verified)) {
             throw new UnauthorizedException("Invalid refresh token");
         }
-        String username = jwtUtil.getUsername(refreshToken);
-        String role = jwtUtil.getRole(refreshToken);
-        if (role == null) {
-            Authentication auth = jwtUtil.getAuthentication(refreshToken);
-            role = auth.getAuthorities().iterator().next().getAuthority();
+        String username = verified.subject();
+        IssuedToken next = jwtProvider.createRefreshToken(verified.userId(), username, verified.sid());
+        RefreshSessionStore.RotationResult rotation =
+                refreshSessionStore.rotate(verified.userId(), verified.sid(), verified.jti(), next);
+        if (rotation.rotation() == RefreshSessionStore.Rotation.REUSED) {
+            log.warn("Refresh token reuse detected; session {} of user {} revoked", verified.sid(), verified.userId());
         }
-        String newAccess = jwtProvider.createAccessToken(username, role);
-        String newRefresh = jwtProvider.createRefreshToken(username);
-        return new TokenResponse("Bearer", newAccess, jwtConfig.getAccessTokenExpiration(), newRefresh);
+        if (rotation.refreshToken() == null) {
+            throw new UnauthorizedException("Invalid refresh token");
+        }
+        // 리프레시 시에는 최신 권한 반영을 위해 사용자 조회(요청당 조회는 하지 않음)
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new UnauthorizedException("Invalid refresh token"));
+        String role = user.getRole() != null ? user.getRole() : "ROLE_USER";
+        String newAccess = jwtProvider.createAccessToken(user.getId(), username, role, verified.sid());
+        return new TokenResponse("Bearer", newAccess, jwtConfig.getAccessTokenExpiration(), rotation.refreshToken());
     }
 
+    /**
+     * 현재 세션 로그아웃(액세스 토큰 폐기 + 리프레시 세션 삭제)
+     */
     public void logout(String accessToken) {
-        if (accessToken != null) {
+        if (accessToken == null) return;
+        VerifiedToken verified = jwtUtil.verify(accessToken).orElse(null);
+        if (verified == null) return;
+        if (verified.userId() != null && verified.sid() != null) {
+            refreshSessionStore.close(verified.userId(), verified.sid(), verified.jti(), verified.expiresAt());
+        } else {
             jwtUtil.addBlacklist(accessToken);
-            jwtUtil.deleteRefreshToken(accessToken);
         }
     }
+
+    /**
+     * 사용자의 모든 세션(액세스/리프레시 토큰) 일괄 폐기
+     * <p>사용자 토큰 에폭을 1 올리는 단일 쓰기로 처리하며, 이전에 발급된 토큰은 모든 노드에서 즉시 거부.</p>
+     *
+     * @param userId 대상 사용자 id
+     */
+    public void logoutAll(Long userId) {
+        tokenEpochStore.bump(userId);
+        refreshSessionStore.closeAll(userId);
+    }
 }
 
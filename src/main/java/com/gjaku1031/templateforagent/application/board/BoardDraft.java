@@ -0,0 +1,10 @@
+package com.gjaku1031.templateforagent.application.board;
+
+/**
+ * 일괄 생성용 게시글 입력값
+ *
+ * @param title   제목
+ * @param content 본문
+ */
+public record BoardDraft(String title, String content) {
+}
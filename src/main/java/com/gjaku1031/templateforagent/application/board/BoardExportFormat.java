@@ -0,0 +1,31 @@
+package com.gjaku1031.templateforagent.application.board;
+
+import com.gjaku1031.templateforagent.common.error.ErrorCode;
+import com.gjaku1031.templateforagent.common.error.exception.BusinessException;
+import java.util.Locale;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 내보내기 형식
+ */
+@Getter
+@RequiredArgsConstructor
+public enum BoardExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    /**
+     * 요청 파라미터(대소문자 무시)로 형식 결정
+     */
+    public static BoardExportFormat from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "Unsupported export format: " + value);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.gjaku1031.templateforagent.application.board;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gjaku1031.templateforagent.domain.board.BoardExportRow;
+import com.gjaku1031.templateforagent.domain.board.BoardRepository;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 게시글 스트리밍 내보내기
+ * <p>전방향 커서(JDBC fetch size)로 읽은 행을 곧바로 응답 스트림에 기록하므로
+ * 결과 목록을 만들지 않고 테이블 크기와 무관하게 메모리 사용량이 일정.</p>
+ * <p>DTO 프로젝션으로 조회해 영속성 컨텍스트에 엔티티가 쌓이지 않음(주기적 clear 불필요).</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class BoardExportService {
+
+    private static final int FLUSH_EVERY = 1_000;
+    private static final String CSV_HEADER = "id,title,content,authorId,authorUsername,createdAt,updatedAt";
+
+    private final BoardRepository boardRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 조건에 맞는 게시글을 id 오름차순으로 {@code out}에 기록
+     * <p>PostgreSQL은 트랜잭션 안(autocommit off)에서만 fetch size 커서를 사용하므로 읽기 전용 트랜잭션 필수.</p>
+     *
+     * @param keyword  제목/본문 포함 검색어(null/공백이면 전체)
+     * @param authorId 작성자 필터(null이면 전체)
+     * @return 기록한 행 수
+     */
+    @Transactional(readOnly = true)
+    public long export(String keyword, Long authorId, BoardExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try (Stream<BoardExportRow> rows = boardRepository.streamForExport(keyword, authorId)) {
+            return switch (format) {
+                case NDJSON -> writeNdjson(rows.iterator(), writer);
+                case CSV -> writeCsv(rows.iterator(), writer);
+            };
+        } finally {
+            writer.flush();
+        }
+    }
+
+    private long writeNdjson(Iterator<BoardExportRow> rows, Writer writer) throws IOException {
+        long count = 0;
+        while (rows.hasNext()) {
+            writer.write(objectMapper.writeValueAsString(rows.next()));
+            writer.write('\n');
+            if (++count % FLUSH_EVERY == 0) writer.flush();
+        }
+        return count;
+    }
+
+    private long writeCsv(Iterator<BoardExportRow> rows, Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write("\r\n");
+        long count = 0;
+        while (rows.hasNext()) {
+            BoardExportRow row = rows.next();
+            writer.write(String.valueOf(row.id()));
+            writer.write(',');
+            writer.write(csv(row.title()));
+            writer.write(',');
+            writer.write(csv(row.content()));
+            writer.write(',');
+            writer.write(String.valueOf(row.authorId()));
+            writer.write(',');
+            writer.write(csv(row.authorUsername()));
+            writer.write(',');
+            writer.write(row.createdAt() == null ? "" : row.createdAt().toString());
+            writer.write(',');
+            writer.write(row.updatedAt() == null ? "" : row.updatedAt().toString());
+            writer.write("\r\n");
+            if (++count % FLUSH_EVERY == 0) writer.flush();
+        }
+        return count;
+    }
+
+    /**
+     * RFC 4180 필드 이스케이프(구분자/따옴표/개행 포함 시 따옴표로 감싸고 따옴표는 두 번)
+     */
+    private static String csv(String value) {
+        if (value == null) return "";
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        return quote ? '"' + value.replace("\"", "\"\"") + '"' : value;
+    }
+}
@@ -0,0 +1,171 @@
+package com.gjaku1031.templateforagent.application.board;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gjaku1031.templateforagent.domain.board.Board;
+import com.gjaku1031.templateforagent.domain.board.BoardChangedEvent;
+import com.gjaku1031.templateforagent.domain.user.User;
+import com.gjaku1031.templateforagent.domain.user.UserRepository;
+import com.gjaku1031.templateforagent.presentation.board.dto.BoardImportLine;
+import com.gjaku1031.templateforagent.presentation.board.dto.BoardImportResponse;
+import jakarta.persistence.EntityManager;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * NDJSON 게시글 일괄 가져오기
+ * <p>요청 본문을 한 줄씩 스트리밍으로 읽어(전체 버퍼링 없음) 줄 단위로 검증하고,
+ * 유효한 줄을 {@code batchSize}개씩 모아 청크마다 별도 트랜잭션으로 커밋.</p>
+ * <ul>
+ *   <li>쓰기: 시퀀스 id + {@code hibernate.jdbc.batch_size} JDBC 배치(드라이버가 multi-row INSERT로 재작성)</li>
+ *   <li>청크 커밋 후 영속성 컨텍스트를 비워 메모리 사용량을 청크 크기로 제한</li>
+ *   <li>검증/저장 실패는 줄 번호와 함께 보고하고 다음 줄로 진행(보고 건수는 {@value #MAX_REPORTED_ERRORS}건까지)</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+public class BoardImportService {
+
+    public static final int MAX_BATCH_SIZE = 5_000;
+    private static final int MAX_REPORTED_ERRORS = 1_000;
+    private static final int MAX_TITLE_LENGTH = 100;
+
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate chunkTx;
+
+    public BoardImportService(UserRepository userRepository,
+                              EntityManager entityManager,
+                              ObjectMapper objectMapper,
+                              ApplicationEventPublisher eventPublisher,
+                              PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.chunkTx = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * NDJSON 스트림 가져오기
+     *
+     * @param body            한 줄에 {@link BoardImportLine} 하나인 NDJSON(UTF-8)
+     * @param defaultAuthorId authorId가 없는 줄의 작성자
+     * @param batchSize       청크(커밋) 크기
+     */
+    public BoardImportResponse importNdjson(InputStream body, Long defaultAuthorId, int batchSize) throws IOException {
+        int chunkSize = Math.min(Math.max(batchSize, 1), MAX_BATCH_SIZE);
+        long started = System.nanoTime();
+        Progress progress = new Progress();
+        Map<Long, Boolean> knownAuthors = new HashMap<>();
+        List<Row> chunk = new ArrayList<>(chunkSize);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        String line;
+        long lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) continue;
+            progress.lines++;
+            Row row = parse(lineNumber, line, defaultAuthorId, knownAuthors, progress);
+            if (row == null) continue;
+            chunk.add(row);
+            if (chunk.size() == chunkSize) {
+                writeChunk(chunk, progress);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) writeChunk(chunk, progress);
+
+        long elapsedNanos = System.nanoTime() - started;
+        return BoardImportResponse.of(progress.lines, progress.imported, progress.failed, progress.errors, elapsedNanos);
+    }
+
+    private Row parse(long lineNumber, String line, Long defaultAuthorId, Map<Long, Boolean> knownAuthors, Progress progress) {
+        BoardImportLine parsed;
+        try {
+            parsed = objectMapper.readValue(line, BoardImportLine.class);
+        } catch (JsonProcessingException e) {
+            progress.fail(lineNumber, "Malformed JSON: " + e.getOriginalMessage());
+            return null;
+        }
+        if (parsed.getTitle() == null || parsed.getTitle().isBlank()) {
+            progress.fail(lineNumber, "title must not be blank");
+            return null;
+        }
+        if (parsed.getTitle().length() > MAX_TITLE_LENGTH) {
+            progress.fail(lineNumber, "title must be at most " + MAX_TITLE_LENGTH + " characters");
+            return null;
+        }
+        if (parsed.getContent() == null || parsed.getContent().isBlank()) {
+            progress.fail(lineNumber, "content must not be blank");
+            return null;
+        }
+        Long authorId = parsed.getAuthorId() != null ? parsed.getAuthorId() : defaultAuthorId;
+        // 작성자 존재 여부는 id당 한 번만 조회
+        if (!knownAuthors.computeIfAbsent(authorId, userRepository::existsById)) {
+            progress.fail(lineNumber, "Author not found: " + authorId);
+            return null;
+        }
+        return new Row(lineNumber, authorId, parsed.getTitle(), parsed.getContent());
+    }
+
+    /**
+     * 청크 하나를 한 트랜잭션으로 저장(실패 시 청크 전체를 실패로 보고하고 계속 진행)
+     */
+    private void writeChunk(List<Row> chunk, Progress progress) {
+        try {
+            List<Long> ids = chunkTx.execute(status -> {
+                List<Board> boards = new ArrayList<>(chunk.size());
+                for (Row row : chunk) {
+                    Board board = Board.builder()
+                            .author(entityManager.getReference(User.class, row.authorId()))
+                            .title(row.title())
+                            .content(row.content())
+                            .build();
+                    entityManager.persist(board);
+                    boards.add(board);
+                }
+                entityManager.flush();
+                entityManager.clear();
+                List<Long> created = boards.stream().map(Board::getId).toList();
+                eventPublisher.publishEvent(BoardChangedEvent.created(created));
+                return created;
+            });
+            progress.imported += ids == null ? 0 : ids.size();
+        } catch (RuntimeException e) {
+            log.warn("Board import chunk of {} rows starting at line {} failed", chunk.size(), chunk.get(0).lineNumber(), e);
+            String message = "Chunk write failed: " + e.getClass().getSimpleName();
+            chunk.forEach(row -> progress.fail(row.lineNumber(), message));
+        }
+    }
+
+    private record Row(long lineNumber, Long authorId, String title, String content) {
+    }
+
+    private static final class Progress {
+        long lines;
+        long imported;
+        long failed;
+        final List<BoardImportResponse.LineError> errors = new ArrayList<>();
+
+        void fail(long lineNumber, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) errors.add(new BoardImportResponse.LineError(lineNumber, message));
+        }
+    }
+}
@@ -1,24 +1,56 @@
 package com.gjaku1031.templateforagent.application.board;
 
+import com.gjaku1031.templateforagent.common.error.ErrorCode;
+import com.gjaku1031.templateforagent.common.error.exception.BusinessException;
 import com.gjaku1031.templateforagent.common.error.exception.NotFoundException;
 import com.gjaku1031.templateforagent.domain.board.Board;
+import com.gjaku1031.templateforagent.domain.board.BoardChangedEvent;
 import com.gjaku1031.templateforagent.domain.board.BoardRepository;
+import com.gjaku1031.templateforagent.domain.board.BoardSummary;
 import com.gjaku1031.templateforagent.domain.user.User;
 import com.gjaku1031.templateforagent.domain.user.UserRepository;
+import com.gjaku1031.templateforagent.infrastructure.cache.BoardCache;
+import com.gjaku1031.templateforagent.infrastructure.diagnostics.jfr.BoardSearchEvent;
+import com.gjaku1031.templateforagent.infrastructure.security.AuthenticatedUser;
 import com.gjaku1031.templateforagent.presentation.board.dto.BoardResponse;
-import lombok.RequiredArgsConstructor;
+import com.gjaku1031.templateforagent.presentation.board.dto.BoardSummaryResponse;
+import com.gjaku1031.templateforagent.presentation.common.CursorResponse;
+import io.micrometer.core.annotation.Timed;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
-@RequiredArgsConstructor
+@Timed("service.method")
 @Transactional(readOnly = true)
 public class BoardService {
 
     private final BoardRepository boardRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BoardCache boardCache;
+    private final TransactionTemplate readOnlyTx;
+
+    public BoardService(BoardRepository boardRepository,
+                        UserRepository userRepository,
+                        ApplicationEventPublisher eventPublisher,
+                        BoardCache boardCache,
+                        PlatformTransactionManager transactionManager) {
+        this.boardRepository = boardRepository;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.boardCache = boardCache;
+        // 캐시 미스 로더는 트랜잭션 밖(get) 또는 갱신 스레드에서 호출되므로 직접 읽기 전용 트랜잭션을 열어 복제본으로 라우팅
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
 
     @Transactional
     public Long create(Long authorId, String title, String content) {
@@ -29,33 +61,117 @@ public class BoardService {
             .title(title)
             .content(content)
             .build());
+        eventPublisher.publishEvent(BoardChangedEvent.created(saved.getId()));
         return saved.getId();
     }
 
+    /**
+     * 같은 작성자의 게시글 일괄 생성
+     * <p>시퀀스 id를 미리 할당하므로 INSERT가 {@code hibernate.jdbc.batch_size} 단위 JDBC 배치로 전송됨.</p>
+     *
+     * @return 생성된 게시글 id(입력 순서)
+     */
+    @Transactional
+    public List<Long> createAll(Long authorId, List<BoardDraft> drafts) {
+        if (!userRepository.existsById(authorId)) throw new NotFoundException("Author not found");
+        // 작성자는 FK 값만 필요하므로 프록시 참조로 연결(추가 SELECT 없음)
+        User author = userRepository.getReferenceById(authorId);
+        List<Long> ids = boardRepository.saveAll(drafts.stream()
+                .map(draft -> Board.builder()
+                    .author(author)
+                    .title(draft.title())
+                    .content(draft.content())
+                    .build())
+                .toList())
+            .stream()
+            .map(Board::getId)
+            .toList();
+        eventPublisher.publishEvent(BoardChangedEvent.created(ids));
+        return ids;
+    }
+
+    /**
+     * 단건 조회(2계층 캐시 경유)
+     * <p>캐시 적중 시 커넥션을 잡지 않도록 트랜잭션 밖에서 실행하고, 미스일 때만 읽기 전용 트랜잭션에서 작성자와 함께 한 번에 로딩.</p>
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public BoardResponse get(Long id) {
-        Board board = getEntity(id);
-        return BoardResponse.from(board);
+        return boardCache.get(id, this::load);
     }
 
+    /**
+     * 조건부 단일 UPDATE로 수정(엔티티 미로딩)
+     * <p>관리자가 아니면 작성자 조건을, {@code version}이 있으면 버전 조건을 함께 걸고
+     * 영향 행이 0이면 원인을 한 번 더 조회해 404/403/409로 구분.</p>
+     *
+     * @param version 클라이언트가 조회한 버전(null이면 마지막 쓰기 우선)
+     */
     @Transactional
-    public void update(Long id, String title, String content) {
-        Board board = getEntity(id);
-        board.change(title, content);
+    public void update(Long id, AuthenticatedUser actor, String title, String content, Long version) {
+        long updated = boardRepository.updateIfMatches(id, ownerCondition(actor), version, title, content, LocalDateTime.now());
+        if (updated == 0) throw writeRejected(id, actor);
+        eventPublisher.publishEvent(BoardChangedEvent.updated(id));
     }
 
+    /**
+     * 조건부 단일 DELETE로 삭제(엔티티 미로딩)
+     *
+     * @param version 기대 버전(null이면 버전 조건 없음)
+     */
     @Transactional
-    public void delete(Long id) {
-        Board board = getEntity(id);
-        boardRepository.delete(board);
+    public void delete(Long id, AuthenticatedUser actor, Long version) {
+        long deleted = boardRepository.deleteIfMatches(id, ownerCondition(actor), version);
+        if (deleted == 0) throw writeRejected(id, actor);
+        eventPublisher.publishEvent(BoardChangedEvent.deleted(id));
+    }
+
+    public Page<BoardSummaryResponse> search(String keyword, Pageable pageable) {
+        BoardSearchEvent event = new BoardSearchEvent();
+        event.begin();
+        Page<BoardSummaryResponse> page = boardRepository.search(keyword, pageable)
+                .map(BoardSummaryResponse::from);
+        event.complete("page", keyword, page.getNumberOfElements());
+        return page;
+    }
+
+    /**
+     * 키셋(커서) 방식 검색
+     * <p>{@code size + 1}건을 조회해 다음 페이지 존재 여부를 판단하므로 카운트 쿼리가 없고,
+     * 페이지 깊이와 무관하게 인덱스 seek 한 번으로 조회.</p>
+     *
+     * @param keyword 검색어(null/공백이면 전체)
+     * @param cursor  직전 페이지 마지막 id(null이면 첫 페이지)
+     * @param size    페이지 크기(1~{@value CursorResponse#MAX_SIZE}로 제한)
+     */
+    public CursorResponse<BoardSummaryResponse> searchAfter(String keyword, Long cursor, int size) {
+        BoardSearchEvent event = new BoardSearchEvent();
+        event.begin();
+        int limit = CursorResponse.clampSize(size);
+        List<BoardSummary> rows = boardRepository.searchAfter(keyword, cursor, limit + 1);
+        CursorResponse<BoardSummaryResponse> response = CursorResponse.of(rows, limit, BoardSummary::id, BoardSummaryResponse::from);
+        event.complete("cursor", keyword, response.getContent().size());
+        return response;
+    }
+
+    private BoardResponse load(Long id) {
+        return readOnlyTx.execute(status -> boardRepository.findWithAuthorById(id)
+            .map(BoardResponse::from)
+            .orElseThrow(() -> new NotFoundException("Board not found")));
     }
 
-    public Page<BoardResponse> search(String keyword, Pageable pageable) {
-        return boardRepository.search(keyword, pageable)
-                .map(BoardResponse::from);
+    private Long ownerCondition(AuthenticatedUser actor) {
+        return actor.isAdmin() ? null : actor.id();
     }
 
-    private Board getEntity(Long id) {
-        return boardRepository.findById(id)
+    /**
+     * 조건부 쓰기가 0건일 때 원인 판별(실패 경로에서만 author_id 한 번 조회)
+     */
+    private RuntimeException writeRejected(Long id, AuthenticatedUser actor) {
+        Long authorId = boardRepository.findAuthorIdById(id)
             .orElseThrow(() -> new NotFoundException("Board not found"));
+        if (!actor.isAdmin() && !authorId.equals(actor.id())) {
+            return new BusinessException(ErrorCode.FORBIDDEN, "Not the author of this board");
+        }
+        return new BusinessException(ErrorCode.CONFLICT, "Board was modified concurrently");
     }
 }
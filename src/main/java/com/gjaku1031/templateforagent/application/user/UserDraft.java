@@ -0,0 +1,10 @@
+package com.gjaku1031.templateforagent.application.user;
+
+/**
+ * 일괄 생성용 사용자 입력값
+ *
+ * @param username 사용자명
+ * @param email    이메일
+ */
+public record UserDraft(String username, String email) {
+}
@@ -5,7 +5,15 @@ import com.gjaku1031.templateforagent.common.error.exception.BusinessException;
 import com.gjaku1031.templateforagent.common.error.exception.NotFoundException;
 import com.gjaku1031.templateforagent.domain.user.User;
 import com.gjaku1031.templateforagent.domain.user.UserRepository;
+import com.gjaku1031.templateforagent.infrastructure.security.jwt.epoch.TokenEpochStore;
+import com.gjaku1031.templateforagent.presentation.common.CursorResponse;
+import com.gjaku1031.templateforagent.presentation.user.dto.UserResponse;
+import io.micrometer.core.annotation.Timed;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -13,12 +21,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
+@Timed("service.method")
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TokenEpochStore tokenEpochStore;
 
     @Transactional
     public Long create(String username, String email) {
@@ -32,6 +42,36 @@ public class UserService {
         return saved.getId();
     }
 
+    /**
+     * 사용자 일괄 생성
+     * <p>중복 검사는 입력 내부와 DB 각각 한 번씩만 수행하고, {@code users_seq}에서 id를 미리 할당하므로
+     * INSERT가 {@code hibernate.jdbc.batch_size} 단위 JDBC 배치로 전송됨.</p>
+     *
+     * @return 생성된 사용자 id(입력 순서)
+     */
+    @Transactional
+    public List<Long> createAll(List<UserDraft> drafts) {
+        Set<String> usernames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        for (UserDraft draft : drafts) {
+            if (!usernames.add(draft.username())) {
+                throw new BusinessException(ErrorCode.CONFLICT, "Duplicate username in request");
+            }
+            if (!emails.add(draft.email())) {
+                throw new BusinessException(ErrorCode.CONFLICT, "Duplicate email in request");
+            }
+        }
+        if (!drafts.isEmpty() && userRepository.existsByUsernameInOrEmailIn(usernames, emails)) {
+            throw new BusinessException(ErrorCode.CONFLICT, "Username or email already exists");
+        }
+        return userRepository.saveAll(drafts.stream()
+                .map(draft -> User.builder().username(draft.username()).email(draft.email()).build())
+                .toList())
+            .stream()
+            .map(User::getId)
+            .toList();
+    }
+
     @Transactional
     public Long register(String username, String email, String rawPassword) {
         if (userRepository.existsByUsername(username)) {
@@ -65,10 +105,26 @@ public class UserService {
     public void delete(Long id) {
         User user = get(id);
         userRepository.delete(user);
+        // 클레임 기반 인증이므로 삭제된 사용자의 남은 토큰도 에폭 증가로 함께 폐기
+        tokenEpochStore.bump(id);
     }
 
-    public Page<com.gjaku1031.templateforagent.presentation.user.dto.UserResponse> list(Pageable pageable) {
+    public Page<UserResponse> list(Pageable pageable) {
         return userRepository.findAll(pageable)
-                .map(com.gjaku1031.templateforagent.presentation.user.dto.UserResponse::from);
+                .map(UserResponse::from);
+    }
+
+    /**
+     * 키셋(커서) 방식 사용자 목록(id 내림차순, 카운트 쿼리 없음)
+     *
+     * @param cursor 직전 페이지 마지막 id(null이면 첫 페이지)
+     * @param size   페이지 크기(1~{@value CursorResponse#MAX_SIZE}로 제한)
+     */
+    public CursorResponse<UserResponse> listAfter(Long cursor, int size) {
+        int limit = CursorResponse.clampSize(size);
+        List<User> rows = cursor == null
+                ? userRepository.findAllByOrderByIdDesc(Limit.of(limit + 1))
+                : userRepository.findByIdLessThanOrderByIdDesc(cursor, Limit.of(limit + 1));
+        return CursorResponse.of(rows, limit, User::getId, UserResponse::from);
     }
 }
@@ -14,7 +14,8 @@ public enum ErrorCode {
     FORBIDDEN(HttpStatus.FORBIDDEN, "E4030", "Forbidden"),
     NOT_FOUND(HttpStatus.NOT_FOUND, "E4040", "Resource not found"),
     CONFLICT(HttpStatus.CONFLICT, "E4090", "Conflict occurred"),
-    INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "E5000", "Internal server error");
+    INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "E5000", "Internal server error"),
+    SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "E5030", "Service temporarily unavailable");
 
     private final HttpStatus status;
     private final String code;
@@ -0,0 +1,42 @@
+package com.gjaku1031.templateforagent.common.paging;
+
+import com.gjaku1031.templateforagent.common.error.ErrorCode;
+import com.gjaku1031.templateforagent.common.error.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서 인코더/디코더
+ * <p>마지막으로 반환한 행의 id를 URL-safe Base64로 감싼 불투명 문자열로 변환.
+ * 클라이언트는 값을 해석하지 않고 {@code after} 파라미터로 그대로 돌려줌.</p>
+ */
+public final class CursorCodec {
+
+    private static final String PREFIX = "id:";
+
+    private CursorCodec() {
+    }
+
+    public static String encode(Long id) {
+        if (id == null) return null;
+        byte[] raw = (PREFIX + id).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    /**
+     * 커서를 id로 복원(null/빈 문자열이면 첫 페이지를 뜻하는 null)
+     *
+     * @throws BusinessException 형식이 올바르지 않은 커서일 때(INVALID_REQUEST)
+     */
+    public static Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) throw new IllegalArgumentException(raw);
+            return Long.parseLong(raw.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "Invalid cursor");
+        }
+    }
+}
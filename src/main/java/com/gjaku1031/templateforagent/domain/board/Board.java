@@ -15,8 +15,10 @@ import lombok.*;
 @Entity
 public class Board extends BaseTimeEntity {
 
+    // 풀링 시퀀스: 50개 단위로 id를 미리 할당해 INSERT 시 키 조회 왕복 없이 JDBC 배치 가능
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "board_seq")
+    @SequenceGenerator(name = "board_seq", sequenceName = "board_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -29,6 +31,11 @@ public class Board extends BaseTimeEntity {
     @Column(nullable = false, columnDefinition = "text")
     private String content;
 
+    // 낙관적 동시성 제어(조건부 UPDATE에서 직접 비교/증가)
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     public void change(String title, String content) {
         this.title = title;
         this.content = content;
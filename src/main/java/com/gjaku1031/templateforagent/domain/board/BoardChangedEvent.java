@@ -0,0 +1,31 @@
+package com.gjaku1031.templateforagent.domain.board;
+
+import java.util.List;
+
+/**
+ * 게시글 변경 도메인 이벤트
+ * <p>애플리케이션 서비스가 생성/수정/삭제 시 발행하며, 커밋 이후 검색 색인·캐시 등 파생 데이터 갱신에 사용.</p>
+ *
+ * @param kind     변경 종류
+ * @param boardIds 변경된 게시글 id 목록
+ */
+public record BoardChangedEvent(Kind kind, List<Long> boardIds) {
+
+    public enum Kind { CREATED, UPDATED, DELETED }
+
+    public static BoardChangedEvent created(List<Long> boardIds) {
+        return new BoardChangedEvent(Kind.CREATED, List.copyOf(boardIds));
+    }
+
+    public static BoardChangedEvent created(Long boardId) {
+        return new BoardChangedEvent(Kind.CREATED, List.of(boardId));
+    }
+
+    public static BoardChangedEvent updated(Long boardId) {
+        return new BoardChangedEvent(Kind.UPDATED, List.of(boardId));
+    }
+
+    public static BoardChangedEvent deleted(Long boardId) {
+        return new BoardChangedEvent(Kind.DELETED, List.of(boardId));
+    }
+}
@@ -0,0 +1,18 @@
+package com.gjaku1031.templateforagent.domain.board;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내보내기용 게시글 행 프로젝션(엔티티/영속성 컨텍스트 미사용)
+ *
+ * @param id             게시글 id
+ * @param title          제목
+ * @param content        본문 전체
+ * @param authorId       작성자 id
+ * @param authorUsername 작성자명
+ * @param createdAt      생성 시각
+ * @param updatedAt      수정 시각
+ */
+public record BoardExportRow(Long id, String title, String content, Long authorId, String authorUsername,
+                             LocalDateTime createdAt, LocalDateTime updatedAt) {
+}
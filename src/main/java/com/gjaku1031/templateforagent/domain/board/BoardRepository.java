@@ -1,7 +1,26 @@
 package com.gjaku1031.templateforagent.domain.board;
 
+import java.util.Optional;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface BoardRepository extends JpaRepository<Board, Long>, BoardRepositoryCustom {
+
+    /**
+     * 작성자를 함께 로딩하는 단건 조회(조인 한 번)
+     */
+    @EntityGraph(attributePaths = "author")
+    Optional<Board> findWithAuthorById(Long id);
+
+    /**
+     * 작성자 id만 조회(소유권 검사용, 본문 미로딩)
+     * <p>권한 평가 시점에는 트랜잭션이 없으므로 읽기 전용 트랜잭션으로 실행(쓰기 트랜잭션 안에서는 그대로 참여).</p>
+     */
+    @Transactional(readOnly = true)
+    @Query("select b.author.id from Board b where b.id = :id")
+    Optional<Long> findAuthorIdById(@Param("id") Long id);
 }
 
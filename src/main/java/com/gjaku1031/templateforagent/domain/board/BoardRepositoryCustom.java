@@ -1,9 +1,50 @@
 package com.gjaku1031.templateforagent.domain.board;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 public interface BoardRepositoryCustom {
-    Page<Board> search(String keyword, Pageable pageable);
+    /**
+     * 오프셋 검색: 키워드가 있으면 {@link BoardTextSearch} 관련도순, 없으면 id 내림차순
+     */
+    Page<BoardSummary> search(String keyword, Pageable pageable);
+
+    /**
+     * 키셋 검색: {@code id < cursor} 조건으로 id 내림차순 최대 {@code limit}건 조회(카운트 쿼리 없음)
+     *
+     * @param keyword 제목/내용 검색어(null/공백이면 전체)
+     * @param cursor  직전 페이지 마지막 id(null이면 첫 페이지)
+     * @param limit   조회 건수
+     */
+    List<BoardSummary> searchAfter(String keyword, Long cursor, int limit);
+
+    /**
+     * 내보내기용 전방향 스트림(id 오름차순, JDBC fetch size 적용)
+     * <p>호출 측 트랜잭션 안에서 소비하고 반드시 닫아야 함.</p>
+     *
+     * @param keyword  제목/본문 포함 검색어(null/공백이면 전체)
+     * @param authorId 작성자 필터(null이면 전체)
+     */
+    Stream<BoardExportRow> streamForExport(String keyword, Long authorId);
+
+    /**
+     * 단일 조건부 UPDATE({@code where id = ? [and author_id = ?] [and version = ?]}), 성공 시 version 1 증가
+     * <p>영속성 컨텍스트/감사(auditing)를 거치지 않으므로 수정 시각을 직접 전달.</p>
+     *
+     * @param authorId        작성자 조건(null이면 미적용, 관리자)
+     * @param expectedVersion 기대 버전(null이면 미적용)
+     * @return 갱신된 행 수(0 또는 1)
+     */
+    long updateIfMatches(Long id, Long authorId, Long expectedVersion, String title, String content, LocalDateTime modifiedAt);
+
+    /**
+     * 단일 조건부 DELETE({@code where id = ? [and author_id = ?] [and version = ?]})
+     *
+     * @return 삭제된 행 수(0 또는 1)
+     */
+    long deleteIfMatches(Long id, Long authorId, Long expectedVersion);
 }
 
@@ -1,46 +1,178 @@
 package com.gjaku1031.templateforagent.domain.board;
 
 import static com.gjaku1031.templateforagent.domain.board.QBoard.board;
+import static com.gjaku1031.templateforagent.domain.user.QUser.user;
 
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
 
 /**
  * BoardRepository 커스텀 구현(QueryDSL)
+ * <p>목록은 엔티티 대신 {@link BoardSummary} 프로젝션(본문은 앞부분만)으로 조회.
+ * 키워드가 있으면 조건 평가를 {@link BoardTextSearch}(설정으로 선택한 검색 엔진)에 위임해
+ * 일치 id/하이라이트를 얻고, 해당 id의 요약만 작성자와 함께 한 번에 조회.</p>
  */
 @RequiredArgsConstructor
 public class BoardRepositoryImpl implements BoardRepositoryCustom {
 
+    // 내보내기 스트리밍 시 JDBC 커서가 한 번에 가져오는 행 수(전체 결과를 메모리에 올리지 않음)
+    private static final int EXPORT_FETCH_SIZE = 500;
+
+    // 잘림 여부 판단을 위해 미리보기 길이보다 한 글자 더 조회
+    private static final ConstructorExpression<BoardSummary> SUMMARY = Projections.constructor(BoardSummary.class,
+        board.id,
+        board.title,
+        board.content.substring(0, BoardSummary.PREVIEW_LENGTH + 1),
+        user.id,
+        user.username,
+        board.createdAt,
+        board.updatedAt);
+
     private final JPAQueryFactory queryFactory;
+    private final BoardTextSearch textSearch;
+
+    @Override
+    public Page<BoardSummary> search(String keyword, Pageable pageable) {
+        if (hasKeyword(keyword)) {
+            List<BoardTextMatch> matches = textSearch.rank(keyword, pageable.getOffset(), pageable.getPageSize());
+            return PageableExecutionUtils.getPage(toSummaries(matches, keyword), pageable, () -> textSearch.count(keyword));
+        }
+
+        return PageableExecutionUtils.getPage(pageQuery(pageable).fetch(), pageable, () -> countQuery().fetchOne());
+    }
 
     @Override
-    public Page<Board> search(String keyword, Pageable pageable) {
-        List<Board> content = queryFactory
-            .selectFrom(board)
-            .leftJoin(board.author).fetchJoin()
-            .where(containsKeyword(keyword))
+    public List<BoardSummary> searchAfter(String keyword, Long cursor, int limit) {
+        if (hasKeyword(keyword)) {
+            return toSummaries(textSearch.matchBefore(keyword, cursor, limit), keyword);
+        }
+        return selectSummaries()
+            .where(idBefore(cursor))
             .orderBy(board.id.desc())
-            .offset(pageable.getOffset())
-            .limit(pageable.getPageSize())
+            .limit(limit)
             .fetch();
+    }
 
-        var countQuery = queryFactory
-            .select(board.count())
+    @Override
+    public Stream<BoardExportRow> streamForExport(String keyword, Long authorId) {
+        return queryFactory
+            .select(Projections.constructor(BoardExportRow.class,
+                board.id, board.title, board.content, user.id, user.username, board.createdAt, board.updatedAt))
             .from(board)
-            .where(containsKeyword(keyword));
+            .join(board.author, user)
+            .where(hasKeyword(keyword) ? containsKeyword(keyword) : null, authorIs(authorId))
+            .orderBy(board.id.asc())
+            .setHint(HibernateHints.HINT_FETCH_SIZE, EXPORT_FETCH_SIZE)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .stream();
+    }
+
+    @Override
+    public long updateIfMatches(Long id, Long authorId, Long expectedVersion, String title, String content, LocalDateTime modifiedAt) {
+        return queryFactory
+            .update(board)
+            .set(board.title, title)
+            .set(board.content, content)
+            .set(board.updatedAt, modifiedAt)
+            .set(board.version, board.version.add(1))
+            .where(board.id.eq(id), authorIs(authorId), versionIs(expectedVersion))
+            .execute();
+    }
+
+    @Override
+    public long deleteIfMatches(Long id, Long authorId, Long expectedVersion) {
+        return queryFactory
+            .delete(board)
+            .where(board.id.eq(id), authorIs(authorId), versionIs(expectedVersion))
+            .execute();
+    }
+
+    /**
+     * 검색 엔진이 반환한 순서를 유지하며 요약을 일괄 조회
+     * <p>엔진이 하이라이트를 주지 않으면(본문을 보관하지 않는 인메모리 색인 등) 제목 + 미리보기로 생성.</p>
+     */
+    private List<BoardSummary> toSummaries(List<BoardTextMatch> matches, String keyword) {
+        if (matches.isEmpty()) return List.of();
+        Map<Long, BoardSummary> summaries = findSummaries(matches.stream().map(BoardTextMatch::boardId).toList());
+        return matches.stream()
+            .filter(m -> summaries.containsKey(m.boardId()))
+            .map(m -> {
+                BoardSummary found = summaries.get(m.boardId());
+                String highlight = m.highlight() != null
+                    ? m.highlight()
+                    : SearchSnippets.highlight(found.title() + " " + found.preview(), keyword);
+                return found.withHighlight(highlight);
+            })
+            .toList();
+    }
+
+    private Map<Long, BoardSummary> findSummaries(Collection<Long> ids) {
+        return summariesQuery(ids)
+            .fetch()
+            .stream()
+            .collect(Collectors.toMap(BoardSummary::id, Function.identity()));
+    }
+
+    // 쿼리 조립만 하고 실행하지 않음(벤치마크에서 조립/JPQL 직렬화 비용을 따로 측정)
+    JPAQuery<BoardSummary> pageQuery(Pageable pageable) {
+        return selectSummaries()
+            .orderBy(board.id.desc())
+            .offset(pageable.getOffset())
+            .limit(pageable.getPageSize());
+    }
+
+    JPAQuery<Long> countQuery() {
+        return queryFactory
+            .select(board.count())
+            .from(board);
+    }
+
+    JPAQuery<BoardSummary> summariesQuery(Collection<Long> ids) {
+        return selectSummaries()
+            .where(board.id.in(ids));
+    }
 
-        return PageableExecutionUtils.getPage(content, pageable, () -> countQuery.fetchOne());
+    private JPAQuery<BoardSummary> selectSummaries() {
+        return queryFactory
+            .select(SUMMARY)
+            .from(board)
+            .join(board.author, user);
     }
 
     private BooleanExpression containsKeyword(String keyword) {
-        if (keyword == null || keyword.isBlank()) return null;
         return board.title.containsIgnoreCase(keyword)
             .or(board.content.containsIgnoreCase(keyword));
     }
-}
 
+    private BooleanExpression authorIs(Long authorId) {
+        return authorId == null ? null : board.author.id.eq(authorId);
+    }
+
+    private BooleanExpression versionIs(Long expectedVersion) {
+        return expectedVersion == null ? null : board.version.eq(expectedVersion);
+    }
+
+    private BooleanExpression idBefore(Long cursor) {
+        return cursor == null ? null : board.id.lt(cursor);
+    }
+
+    private boolean hasKeyword(String keyword) {
+        return Objects.nonNull(keyword) && !keyword.isBlank();
+    }
+}
@@ -0,0 +1,42 @@
+package com.gjaku1031.templateforagent.domain.board;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록용 게시글 요약 프로젝션
+ * <p>본문 전체 대신 앞부분 미리보기만 담아 목록 조회 시 DB → Hibernate → JSON 전 구간의 전송량을 페이지 크기와 무관하게 제한.
+ * QueryDSL {@code Projections.constructor}로 직접 생성(엔티티/영속성 컨텍스트 미사용).</p>
+ *
+ * @param id             게시글 id
+ * @param title          제목
+ * @param preview        본문 미리보기(최대 {@value #PREVIEW_LENGTH}자, 잘렸으면 말줄임표)
+ * @param authorId       작성자 id
+ * @param authorUsername 작성자명
+ * @param createdAt      생성 시각
+ * @param updatedAt      수정 시각
+ * @param highlight      검색어 하이라이트 스니펫(키워드 없는 조회면 null)
+ */
+public record BoardSummary(Long id, String title, String preview, Long authorId, String authorUsername,
+                           LocalDateTime createdAt, LocalDateTime updatedAt, String highlight) {
+
+    public static final int PREVIEW_LENGTH = 200;
+
+    /**
+     * 프로젝션 생성자
+     *
+     * @param rawPreview 본문 앞 {@code PREVIEW_LENGTH + 1}자(한 글자 더 읽어 잘림 여부 판단)
+     */
+    public BoardSummary(Long id, String title, String rawPreview, Long authorId, String authorUsername,
+                        LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, title, truncate(rawPreview), authorId, authorUsername, createdAt, updatedAt, null);
+    }
+
+    public BoardSummary withHighlight(String highlight) {
+        return new BoardSummary(id, title, preview, authorId, authorUsername, createdAt, updatedAt, highlight);
+    }
+
+    private static String truncate(String raw) {
+        if (raw == null || raw.codePointCount(0, raw.length()) <= PREVIEW_LENGTH) return raw;
+        return raw.substring(0, raw.offsetByCodePoints(0, PREVIEW_LENGTH)) + "…";
+    }
+}
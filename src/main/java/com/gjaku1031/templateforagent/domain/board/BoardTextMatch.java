@@ -0,0 +1,11 @@
+package com.gjaku1031.templateforagent.domain.board;
+
+/**
+ * 텍스트 검색 일치 항목
+ *
+ * @param boardId   게시글 id
+ * @param score     관련도 점수(엔진별 상대값, 최신순 검색은 0)
+ * @param highlight 일치 구간을 {@code <mark>}로 감싼 본문 스니펫(HTML 이스케이프 적용)
+ */
+public record BoardTextMatch(Long boardId, double score, String highlight) {
+}
@@ -0,0 +1,34 @@
+package com.gjaku1031.templateforagent.domain.board;
+
+import java.util.List;
+
+/**
+ * 게시글 텍스트 검색 엔진 포트
+ * <p>{@link BoardRepositoryCustom} 검색이 키워드 조건을 위임하는 확장 지점.
+ * 구현체는 {@code app.board.search.engine} 설정으로 선택하며, 결과는 게시글 id와 점수/하이라이트만 반환.</p>
+ */
+public interface BoardTextSearch {
+
+    /**
+     * 관련도 내림차순 검색
+     *
+     * @param keyword 검색어
+     * @param offset  건너뛸 건수
+     * @param limit   최대 건수
+     */
+    List<BoardTextMatch> rank(String keyword, long offset, int limit);
+
+    /**
+     * 최신순(id 내림차순) 키셋 검색
+     *
+     * @param keyword 검색어
+     * @param cursor  직전 페이지 마지막 id(null이면 처음부터)
+     * @param limit   최대 건수
+     */
+    List<BoardTextMatch> matchBefore(String keyword, Long cursor, int limit);
+
+    /**
+     * 검색어와 일치하는 게시글 수
+     */
+    long count(String keyword);
+}
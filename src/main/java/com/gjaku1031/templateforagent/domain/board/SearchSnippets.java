@@ -0,0 +1,100 @@
+package com.gjaku1031.templateforagent.domain.board;
+
+import java.util.Locale;
+
+/**
+ * 검색 결과 하이라이트 스니펫 생성기
+ * <p>본문에서 검색어가 처음 등장하는 위치 주변을 잘라 {@code <mark>}로 감싸며, 나머지 텍스트는 HTML 이스케이프.</p>
+ */
+public final class SearchSnippets {
+
+    static final String START = "<mark>";
+    static final String STOP = "</mark>";
+    private static final int RADIUS = 60;
+
+    private SearchSnippets() {
+    }
+
+    /**
+     * @param text     원문(게시글 본문)
+     * @param keyword  공백으로 구분된 검색어
+     * @return 스니펫(일치 구간이 없으면 앞부분 요약)
+     */
+    public static String highlight(String text, String keyword) {
+        return highlight(text, keyword, false, false);
+    }
+
+    /**
+     * 원문의 일부 구간만으로 스니펫 생성
+     * <p>DB에서 검색어 주변 {@link #windowLength(String)}자만 잘라 온 경우에 사용하며,
+     * 구간 바깥으로 원문이 이어지면 해당 방향에 말줄임표를 붙임.</p>
+     *
+     * @param text            원문 구간
+     * @param keyword         공백으로 구분된 검색어
+     * @param truncatedBefore 구간 앞에 원문이 더 있는지 여부
+     * @param truncatedAfter  구간 뒤에 원문이 더 있는지 여부
+     */
+    public static String highlight(String text, String keyword, boolean truncatedBefore, boolean truncatedAfter) {
+        if (text == null) return null;
+        String lower = text.toLowerCase(Locale.ROOT);
+        if (lower.length() != text.length()) lower = text; // 소문자 변환으로 길이가 바뀌는 문자는 원문 기준으로 탐색
+        int at = -1;
+        int length = 0;
+        for (String term : keyword.toLowerCase(Locale.ROOT).split("\\s+")) {
+            if (term.isEmpty()) continue;
+            int idx = lower.indexOf(term);
+            if (idx >= 0 && (at < 0 || idx < at)) {
+                at = idx;
+                length = term.length();
+            }
+        }
+        if (at < 0) {
+            int to = cut(text, Math.min(text.length(), RADIUS * 2));
+            return (truncatedBefore ? "…" : "")
+                    + escape(text.substring(0, to))
+                    + (to < text.length() || truncatedAfter ? "…" : "");
+        }
+        int from = Math.max(0, at - RADIUS);
+        if (from > 0 && Character.isLowSurrogate(text.charAt(from))) from--;
+        int to = cut(text, Math.min(text.length(), at + length + RADIUS));
+        return (from > 0 || truncatedBefore ? "…" : "")
+                + escape(text.substring(from, at))
+                + START + escape(text.substring(at, at + length)) + STOP
+                + escape(text.substring(at + length, to))
+                + (to < text.length() || truncatedAfter ? "…" : "");
+    }
+
+    /**
+     * 스니펫 생성에 필요한 원문 구간 길이(검색어 앞뒤 여백 포함)
+     */
+    public static int windowLength(String keyword) {
+        return keyword.length() + RADIUS * 2;
+    }
+
+    /**
+     * 검색어 앞쪽 여백 길이
+     */
+    public static int radius() {
+        return RADIUS;
+    }
+
+    // 서로게이트 쌍 중간에서 끊기지 않도록 끝 위치 보정
+    private static int cut(String text, int to) {
+        return to < text.length() && Character.isLowSurrogate(text.charAt(to)) ? to + 1 : to;
+    }
+
+    static String escape(String raw) {
+        StringBuilder sb = new StringBuilder(raw.length());
+        for (int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            switch (c) {
+                case '&' -> sb.append("&amp;");
+                case '<' -> sb.append("&lt;");
+                case '>' -> sb.append("&gt;");
+                case '"' -> sb.append("&quot;");
+                default -> sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+}
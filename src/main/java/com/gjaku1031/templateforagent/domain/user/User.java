@@ -15,8 +15,10 @@ import lombok.*;
 @Table(name = "users")
 public class User extends BaseTimeEntity {
 
+    // id 할당은 Board와 같은 방식(전환 스크립트는 db/id-sequences.sql)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 50)
@@ -35,5 +37,9 @@ public class User extends BaseTimeEntity {
         this.username = username;
         this.email = email;
     }
+
+    public void changePassword(String encodedPassword) {
+        this.password = encodedPassword;
+    }
 }
 
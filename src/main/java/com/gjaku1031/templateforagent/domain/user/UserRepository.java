@@ -1,11 +1,21 @@
 package com.gjaku1031.templateforagent.domain.user;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
     Optional<User> findByUsername(String username);
+
+    // 일괄 생성 전 중복 검사를 한 번의 조회로 처리
+    boolean existsByUsernameInOrEmailIn(Collection<String> usernames, Collection<String> emails);
+
+    // 키셋 페이지네이션(id 내림차순, 카운트 쿼리 없음)
+    List<User> findAllByOrderByIdDesc(Limit limit);
+    List<User> findByIdLessThanOrderByIdDesc(Long id, Limit limit);
 }
 
@@ -0,0 +1,317 @@
+package com.gjaku1031.templateforagent.infrastructure.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gjaku1031.templateforagent.common.error.exception.NotFoundException;
+import com.gjaku1031.templateforagent.domain.board.BoardChangedEvent;
+import com.gjaku1031.templateforagent.infrastructure.config.BoardCacheConfig;
+import com.gjaku1031.templateforagent.infrastructure.config.BoardCacheExecutorConfig;
+import com.gjaku1031.templateforagent.infrastructure.messaging.BoardChangeSubscriber;
+import com.gjaku1031.templateforagent.presentation.board.dto.BoardResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 단건 조회 2계층 read-through 캐시
+ * <p>조회 순서: 핫 키 고정 영역 → 로컬(Caffeine) → Redis {@code board:<id>}(JSON) → 로더(DB).
+ * 하위 계층에서 찾은 값은 상위 계층에 채워 넣음.</p>
+ * <p><b>미스 병합</b></p>
+ * <ul>
+ *   <li>같은 id의 동시 미스는 {@link SingleFlight}로 한 번만 Redis/DB를 조회하고 결과를 공유</li>
+ *   <li>대기자는 {@code app.board.cache.load-timeout}까지만 기다리고 초과 시 503</li>
+ *   <li>{@code stale-while-revalidate} 사용 시 TTL 만료/수정된 값은 {@code stale-ttl} 동안 그대로 제공하면서 백그라운드에서 한 번만 갱신.
+ *   갱신 실행기가 가득 차면 갱신을 건너뛰고({@code board.cache.refresh.rejected}) 다음 요청에서 다시 시도</li>
+ * </ul>
+ * <p><b>무효화/핫 키</b></p>
+ * <ul>
+ *   <li>{@link BoardChangedEvent} 수정/삭제 시 로컬은 제거(삭제, SWR 미사용) 또는 stale 표시. 다른 노드에는 브로드캐스터가 Redis Pub/Sub으로 전달</li>
+ *   <li>Redis 키는 지우는 대신 {@code tombstone-ttl} 동안 툴스톤으로 덮어쓰고, 로더는 키가 없을 때만 기록(SET NX).
+ *   무효화 전에 시작된 느린 로딩이 이전 값을 Redis에 되살리지 못함</li>
+ *   <li>로컬은 id 구간별 무효화 세대를 두고, 로딩 시작 후 세대가 바뀌었으면 결과를 적재하지 않음</li>
+ *   <li>Count-Min Sketch로 조회 빈도를 추정해 임계치 이상인 게시글은 로컬 크기 제한/TTL과 무관하게 고정</li>
+ *   <li>{@code app.board.cache.hot-key.decay-interval}마다 빈도를 반감하고 식은 키는 고정 해제</li>
+ * </ul>
+ * <p>지표: {@code cache.*{cache=board.local}}(적중률/축출), {@code board.cache.requests{tier}}, {@code board.cache.load},
+ * {@code board.cache.pinned}, {@code board.cache.in.flight}.</p>
+ */
+@Slf4j
+@Component
+public class BoardCache implements BoardChangeSubscriber {
+
+    public static final String KEY_PREFIX = "board:";
+    private static final String TOMBSTONE = "-";
+    private static final int GENERATION_STRIPES = 64;
+
+    private final BoardCacheConfig config;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, Entry> local;
+    private final Map<Long, Pinned> pinned = new ConcurrentHashMap<>();
+    private final CountMinSketch frequencies;
+    private final SingleFlight<Long, BoardResponse> singleFlight = new SingleFlight<>();
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final Executor refreshExecutor;
+
+    private final Counter pinnedHits;
+    private final Counter localHits;
+    private final Counter staleHits;
+    private final Counter redisHits;
+    private final Counter loads;
+    private final Counter refreshRejected;
+    private final Timer loadTimer;
+
+    public BoardCache(BoardCacheConfig config,
+                      RedisTemplate<String, String> redisTemplate,
+                      ObjectMapper objectMapper,
+                      MeterRegistry meterRegistry,
+                      @Qualifier(BoardCacheExecutorConfig.REFRESH_EXECUTOR) Executor refreshExecutor) {
+        this.config = config;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(config.getLocalMaxSize())
+                // SWR 사용 시 신선 기간(local-ttl)이 지나도 stale-ttl 동안은 stale 값으로 보관
+                .expireAfterWrite(config.isStaleWhileRevalidate()
+                        ? config.getLocalTtl().plus(config.getStaleTtl())
+                        : config.getLocalTtl())
+                .recordStats()
+                .build();
+        this.frequencies = new CountMinSketch(config.getHotKey().getSketchWidth(), config.getHotKey().getSketchDepth());
+        this.refreshExecutor = refreshExecutor;
+
+        CaffeineCacheMetrics.monitor(meterRegistry, local, "board.local");
+        this.pinnedHits = meterRegistry.counter("board.cache.requests", "tier", "pinned");
+        this.localHits = meterRegistry.counter("board.cache.requests", "tier", "local");
+        this.staleHits = meterRegistry.counter("board.cache.requests", "tier", "stale");
+        this.redisHits = meterRegistry.counter("board.cache.requests", "tier", "redis");
+        this.loads = meterRegistry.counter("board.cache.requests", "tier", "loader");
+        this.refreshRejected = meterRegistry.counter("board.cache.refresh.rejected");
+        this.loadTimer = Timer.builder("board.cache.load")
+                .description("Time spent loading a board on a full cache miss")
+                .register(meterRegistry);
+        meterRegistry.gauge("board.cache.pinned", pinned, Map::size);
+        meterRegistry.gauge("board.cache.in.flight", singleFlight, SingleFlight::inFlightCount);
+    }
+
+    /**
+     * 캐시 조회, 모든 계층에서 없으면 {@code loader}로 로딩 후 적재
+     * <p>로더가 던진 예외(NotFound 등)는 캐시하지 않고 그대로 전파.</p>
+     */
+    public BoardResponse get(Long id, Function<Long, BoardResponse> loader) {
+        if (!config.isEnabled()) return loader.apply(id);
+
+        int frequency = frequencies.increment(id);
+        Pinned hot = pinned.get(id);
+        if (hot != null && !hot.isExpired()) {
+            return serve(id, hot.entry(), loader, pinnedHits);
+        }
+
+        Entry entry = local.getIfPresent(id);
+        if (entry != null) {
+            return serve(id, entry, loader, localHits);
+        }
+
+        BoardResponse value = singleFlight.execute(id, () -> fetch(id, loader), config.getLoadTimeout());
+        pinIfHot(id, frequency);
+        return value;
+    }
+
+    /**
+     * 모든 계층에서 제거
+     */
+    public void evict(Long id) {
+        invalidate(id);
+        pinned.remove(id);
+        local.invalidate(id);
+        evictShared(id);
+    }
+
+    @Override
+    public void onBoardChanged(BoardChangedEvent event) {
+        switch (event.kind()) {
+            case CREATED -> { }
+            case UPDATED -> event.boardIds().forEach(config.isStaleWhileRevalidate() ? this::markStale : this::evict);
+            case DELETED -> event.boardIds().forEach(this::evict);
+        }
+    }
+
+    /**
+     * 빈도 반감 + 식었거나 수명이 지난 고정 엔트리 해제
+     */
+    @Scheduled(fixedDelayString = "${app.board.cache.hot-key.decay-interval:PT1M}")
+    public void decay() {
+        frequencies.halve();
+        int keepAbove = config.getHotKey().getThreshold() / 2;
+        pinned.entrySet().removeIf(e -> e.getValue().isExpired() || frequencies.estimate(e.getKey()) < keepAbove);
+    }
+
+    /**
+     * 신선하면 그대로, stale이면 SWR 설정에 따라 stale 값 제공 + 백그라운드 갱신 또는 동기 재로딩
+     */
+    private BoardResponse serve(Long id, Entry entry, Function<Long, BoardResponse> loader, Counter hitCounter) {
+        if (entry.isFresh()) {
+            hitCounter.increment();
+            return entry.value();
+        }
+        if (config.isStaleWhileRevalidate()) {
+            staleHits.increment();
+            singleFlight.executeAsync(id, () -> refresh(id, loader), this::submitRefresh);
+            return entry.value();
+        }
+        return singleFlight.execute(id, () -> fetch(id, loader), config.getLoadTimeout());
+    }
+
+    /**
+     * Redis → 로더 순으로 조회해 상위 계층에 적재(single-flight 리더만 실행)
+     */
+    private BoardResponse fetch(Long id, Function<Long, BoardResponse> loader) {
+        long generation = generation(id);
+        BoardResponse value = readShared(id);
+        if (value != null) {
+            redisHits.increment();
+        } else {
+            value = load(id, loader);
+            if (generation(id) == generation) writeShared(id, value);
+        }
+        store(id, value, generation);
+        return value;
+    }
+
+    /**
+     * stale 값 백그라운드 갱신(Redis는 이미 무효화되었거나 만료되었을 수 있으므로 로더 우선)
+     */
+    private BoardResponse refresh(Long id, Function<Long, BoardResponse> loader) {
+        try {
+            long generation = generation(id);
+            BoardResponse value = load(id, loader);
+            if (generation(id) == generation) writeShared(id, value);
+            store(id, value, generation);
+            return value;
+        } catch (NotFoundException e) {
+            evict(id);
+            throw e;
+        } catch (RuntimeException e) {
+            log.warn("Background refresh failed for board {}, keeping stale value", id, e);
+            throw e;
+        }
+    }
+
+    private void submitRefresh(Runnable task) {
+        try {
+            refreshExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            refreshRejected.increment();
+            throw e;
+        }
+    }
+
+    private BoardResponse load(Long id, Function<Long, BoardResponse> loader) {
+        loads.increment();
+        return loadTimer.record(() -> loader.apply(id));
+    }
+
+    /**
+     * 로딩 시작 시점({@code generation}) 이후 무효화가 없었을 때만 로컬 적재
+     * <p>적재 직후 다시 확인해, 그 사이 끼어든 무효화가 방금 넣은 값을 놓치지 않도록 함.</p>
+     */
+    private void store(Long id, BoardResponse value, long generation) {
+        if (generation(id) != generation) return;
+        Entry entry = new Entry(value, System.nanoTime() + config.getLocalTtl().toNanos());
+        local.put(id, entry);
+        pinned.computeIfPresent(id, (key, current) -> new Pinned(entry, current.expiresAtNanos()));
+        if (generation(id) != generation) {
+            local.asMap().remove(id, entry);
+            pinned.computeIfPresent(id, (key, current) -> current.entry() == entry ? null : current);
+        }
+    }
+
+    private long generation(Long id) {
+        return generations.get(Math.floorMod(id.hashCode(), GENERATION_STRIPES));
+    }
+
+    private void invalidate(Long id) {
+        generations.incrementAndGet(Math.floorMod(id.hashCode(), GENERATION_STRIPES));
+    }
+
+    private void markStale(Long id) {
+        invalidate(id);
+        local.asMap().computeIfPresent(id, (key, entry) -> entry.stale());
+        pinned.computeIfPresent(id, (key, current) -> new Pinned(current.entry().stale(), current.expiresAtNanos()));
+        evictShared(id);
+    }
+
+    private void pinIfHot(Long id, int frequency) {
+        BoardCacheConfig.HotKey hotKey = config.getHotKey();
+        if (frequency < hotKey.getThreshold() || pinned.containsKey(id) || pinned.size() >= hotKey.getMaxPinned()) return;
+        // 무효화로 로컬 적재가 생략된 값은 고정하지 않음
+        Entry entry = local.getIfPresent(id);
+        if (entry == null) return;
+        pinned.put(id, new Pinned(entry, System.nanoTime() + hotKey.getPinnedTtl().toNanos()));
+    }
+
+    private BoardResponse readShared(Long id) {
+        try {
+            String json = redisTemplate.opsForValue().get(KEY_PREFIX + id);
+            return json == null || TOMBSTONE.equals(json) ? null : objectMapper.readValue(json, BoardResponse.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Discarding unreadable cached board {}", id, e);
+            return null;
+        } catch (Exception e) {
+            log.warn("Redis read failed for board {}, falling back to loader", id, e);
+            return null;
+        }
+    }
+
+    private void writeShared(Long id, BoardResponse value) {
+        try {
+            redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + id, objectMapper.writeValueAsString(value), config.getRedisTtl());
+        } catch (Exception e) {
+            log.warn("Redis write failed for board {}", id, e);
+        }
+    }
+
+    private void evictShared(Long id) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + id, TOMBSTONE, config.getTombstoneTtl());
+        } catch (Exception e) {
+            log.warn("Failed to evict board {} from Redis", id, e);
+        }
+    }
+
+    /**
+     * 로컬 엔트리(신선 기한 이후에는 stale)
+     */
+    private record Entry(BoardResponse value, long freshUntilNanos) {
+        boolean isFresh() {
+            return System.nanoTime() - freshUntilNanos < 0;
+        }
+
+        Entry stale() {
+            return new Entry(value, System.nanoTime() - 1);
+        }
+    }
+
+    /**
+     * 고정 엔트리(무효화 누락 대비 최대 수명 포함)
+     */
+    private record Pinned(Entry entry, long expiresAtNanos) {
+        boolean isExpired() {
+            return System.nanoTime() - expiresAtNanos > 0;
+        }
+    }
+}
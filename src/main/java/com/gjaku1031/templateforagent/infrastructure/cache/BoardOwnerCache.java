@@ -0,0 +1,77 @@
+package com.gjaku1031.templateforagent.infrastructure.cache;
+
+import com.gjaku1031.templateforagent.domain.board.BoardChangedEvent;
+import com.gjaku1031.templateforagent.domain.board.BoardRepository;
+import com.gjaku1031.templateforagent.infrastructure.messaging.BoardChangeSubscriber;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 게시글 id → 작성자 id 조회 캐시(소유권 검사 전용)
+ * <p>권한 검사에 본문까지 담긴 엔티티를 로딩하지 않도록 {@code author_id}만 조회하고 노드 로컬에 보관.
+ * 게시글 작성자는 바뀌지 않으므로 삭제 이벤트에서만 제거.</p>
+ * <ul>
+ *   <li>요청 범위 메모: 한 요청 안에서 같은 게시글을 여러 번 검사해도 캐시/DB를 다시 거치지 않음</li>
+ *   <li>존재하지 않는 게시글은 캐시하지 않음(빈 값 반환)</li>
+ * </ul>
+ */
+@Component
+public class BoardOwnerCache implements BoardChangeSubscriber {
+
+    private static final String REQUEST_MEMO = BoardOwnerCache.class.getName() + ".memo";
+
+    private final BoardRepository boardRepository;
+    private final Cache<Long, Long> owners;
+
+    public BoardOwnerCache(BoardRepository boardRepository, MeterRegistry meterRegistry) {
+        this.boardRepository = boardRepository;
+        this.owners = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterAccess(Duration.ofHours(1))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, owners, "board.owner");
+    }
+
+    /**
+     * 게시글 작성자 id(요청 메모 → 로컬 캐시 → {@code select author_id} 순)
+     */
+    public Optional<Long> ownerOf(Long boardId) {
+        Map<Long, Long> memo = requestMemo();
+        if (memo != null && memo.containsKey(boardId)) return Optional.ofNullable(memo.get(boardId));
+
+        Long ownerId = owners.getIfPresent(boardId);
+        if (ownerId == null) {
+            ownerId = boardRepository.findAuthorIdById(boardId).orElse(null);
+            if (ownerId != null) owners.put(boardId, ownerId);
+        }
+        if (memo != null) memo.put(boardId, ownerId);
+        return Optional.ofNullable(ownerId);
+    }
+
+    @Override
+    public void onBoardChanged(BoardChangedEvent event) {
+        if (event.kind() == BoardChangedEvent.Kind.DELETED) owners.invalidateAll(event.boardIds());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Long> requestMemo() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) return null;
+        Object memo = attributes.getAttribute(REQUEST_MEMO, RequestAttributes.SCOPE_REQUEST);
+        if (memo == null) {
+            memo = new HashMap<Long, Long>();
+            attributes.setAttribute(REQUEST_MEMO, memo, RequestAttributes.SCOPE_REQUEST);
+        }
+        return (Map<Long, Long>) memo;
+    }
+}
@@ -0,0 +1,65 @@
+package com.gjaku1031.templateforagent.infrastructure.cache;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * long 키 빈도 추정용 Count-Min Sketch
+ * <p>{@code depth}개 행에 서로 다른 해시로 카운터를 올리고 최솟값을 추정치로 사용(과대 추정만 발생).
+ * {@link #halve()}로 전체 카운터를 반감해 최근 빈도 위주로 유지. 락 없이 스레드 안전.</p>
+ */
+public final class CountMinSketch {
+
+    private final int width;
+    private final int depth;
+    private final AtomicIntegerArray counters;
+
+    public CountMinSketch(int width, int depth) {
+        if (width <= 0 || depth <= 0) throw new IllegalArgumentException("width and depth must be positive");
+        this.width = width;
+        this.depth = depth;
+        this.counters = new AtomicIntegerArray(width * depth);
+    }
+
+    /**
+     * 키 빈도 1 증가 후 추정 빈도 반환
+     */
+    public int increment(long key) {
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            int slot = slot(key, row);
+            int value = counters.get(slot);
+            // 포화 시 더 올리지 않음(오버플로 방지)
+            if (value < Integer.MAX_VALUE) value = counters.incrementAndGet(slot);
+            min = Math.min(min, value);
+        }
+        return min;
+    }
+
+    public int estimate(long key) {
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counters.get(slot(key, row)));
+        }
+        return min;
+    }
+
+    /**
+     * 모든 카운터 반감(에이징)
+     */
+    public void halve() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.updateAndGet(i, v -> v >>> 1);
+        }
+    }
+
+    private int slot(long key, int row) {
+        long h = mix(key + 0x9E3779B97F4A7C15L * (row + 1));
+        return row * width + (int) Long.remainderUnsigned(h, width);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+}
@@ -0,0 +1,94 @@
+package com.gjaku1031.templateforagent.infrastructure.cache;
+
+import com.gjaku1031.templateforagent.common.error.ErrorCode;
+import com.gjaku1031.templateforagent.common.error.exception.BusinessException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 키 단위 요청 병합(single-flight)
+ * <p>같은 키로 동시에 들어온 로딩 요청 중 첫 요청(리더)만 로더를 실행하고, 나머지는 진행 중인 결과를 공유.
+ * 로딩이 끝나면 키를 비우므로 결과 자체를 캐시하지는 않음.</p>
+ * <ul>
+ *   <li>리더는 호출 스레드에서 로더를 실행(추가 스레드 없음)</li>
+ *   <li>대기자는 최대 {@code timeout}만 기다리고, 초과 시 503(SERVICE_UNAVAILABLE)</li>
+ *   <li>로더 예외는 리더/대기자 모두에게 그대로 전파</li>
+ * </ul>
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 진행 중인 로딩이 있으면 합류, 없으면 직접 로딩
+     */
+    public V execute(K key, Supplier<V> loader, Duration timeout) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) return await(existing, timeout);
+        return lead(key, mine, loader);
+    }
+
+    /**
+     * 진행 중인 로딩이 없을 때만 {@code executor}에서 비동기로 로딩 시작(백그라운드 갱신용)
+     *
+     * @return 새로 시작했으면 true
+     */
+    public boolean executeAsync(K key, Supplier<V> loader, Executor executor) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        if (inFlight.putIfAbsent(key, mine) != null) return false;
+        try {
+            executor.execute(() -> {
+                try {
+                    lead(key, mine, loader);
+                } catch (RuntimeException ignored) {
+                    // 비동기 갱신 실패는 future로 전달되어 합류한 대기자가 처리
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.remove(key, mine);
+            mine.completeExceptionally(e);
+            return false;
+        }
+        return true;
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private V lead(K key, CompletableFuture<V> mine, Supplier<V> loader) {
+        try {
+            V value = loader.get();
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private V await(CompletableFuture<V> future, Duration timeout) {
+        try {
+            return future.get(timeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE, "Timed out waiting for in-flight load");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE, "Interrupted while waiting for in-flight load");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            if (e.getCause() instanceof Error err) throw err;
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
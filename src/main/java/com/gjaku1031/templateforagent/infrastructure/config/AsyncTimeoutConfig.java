@@ -0,0 +1,30 @@
+package com.gjaku1031.templateforagent.infrastructure.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 엔드포인트별 MVC 비동기 처리 제한 시간 프로퍼티 바인딩(app.web.async-timeout.*)
+ * <p>{@code StreamingResponseBody}/{@code Callable} 응답은 기본적으로 서블릿 컨테이너의 비동기 제한 시간(30초)에 끊기므로,
+ * 오래 스트리밍하는 엔드포인트만 {@code endpoints[<경로 패턴>]=<기간>}으로 늘림.
+ * 예: {@code app.web.async-timeout.endpoints[/api/boards/export]=PT1H}</p>
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.web.async-timeout")
+public class AsyncTimeoutConfig {
+    private Map<String, Duration> endpoints = new LinkedHashMap<>();
+
+    /**
+     * 경로 패턴의 제한 시간 조회(지정되지 않으면 null)
+     */
+    public Duration timeoutFor(String pattern) {
+        return endpoints.get(pattern);
+    }
+}
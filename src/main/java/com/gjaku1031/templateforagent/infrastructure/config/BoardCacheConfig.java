@@ -0,0 +1,43 @@
+package com.gjaku1031.templateforagent.infrastructure.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 게시글 단건 조회 캐시 설정 프로퍼티 바인딩(app.board.cache.*)
+ * <p>로컬(Caffeine) 계층, Redis 공유 계층, 미스 병합/stale-while-revalidate, 핫 키 고정(pinning) 설정을 매핑.</p>
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.board.cache")
+public class BoardCacheConfig {
+    private boolean enabled = true;
+    private long localMaxSize = 10_000; // 로컬 계층 최대 엔트리 수(W-TinyLFU 허용 정책)
+    private Duration localTtl = Duration.ofMinutes(1);
+    private Duration redisTtl = Duration.ofMinutes(10);
+    private Duration tombstoneTtl = Duration.ofSeconds(10); // 무효화 후 Redis 재적재 금지 기간(최악의 로딩 시간보다 길게)
+    private Duration loadTimeout = Duration.ofSeconds(2); // 진행 중인 로딩 대기 한도(초과 시 503)
+    private boolean staleWhileRevalidate = false; // 만료/수정된 값을 갱신 동안 계속 제공
+    private Duration staleTtl = Duration.ofMinutes(5); // 로컬 TTL 이후 stale 값을 보관하는 추가 기간
+    private int refreshThreads = 2; // 백그라운드 갱신 스레드 수
+    private int refreshQueueCapacity = 256; // 초과한 갱신은 건너뛰고 stale 값 유지
+    private final HotKey hotKey = new HotKey();
+
+    /**
+     * 핫 키 감지/고정 설정(app.board.cache.hot-key.*)
+     */
+    @Getter
+    @Setter
+    public static class HotKey {
+        private int sketchWidth = 4_096; // Count-Min Sketch 행당 카운터 수
+        private int sketchDepth = 4;
+        private int threshold = 200; // 감쇠 주기 내 추정 조회 수가 이 값 이상이면 고정
+        private int maxPinned = 256;
+        private Duration pinnedTtl = Duration.ofMinutes(10); // 무효화 누락 대비 고정 엔트리 최대 수명
+        private Duration decayInterval = Duration.ofMinutes(1); // 카운터 반감 + 고정 해제 판정 주기
+    }
+}
@@ -0,0 +1,31 @@
+package com.gjaku1031.templateforagent.infrastructure.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 게시글 캐시 백그라운드 갱신 실행기 설정
+ * <p>스레드 수({@code app.board.cache.refresh-threads})와 대기열({@code app.board.cache.refresh-queue-capacity})이 고정된
+ * 실행기. 가득 차면 제출을 거절하고 호출 측이 갱신을 건너뛰어 stale 값을 계속 제공.
+ * 스프링 빈이므로 컨텍스트 종료 시 함께 정리.</p>
+ */
+@Configuration
+public class BoardCacheExecutorConfig {
+
+    public static final String REFRESH_EXECUTOR = "boardCacheRefreshExecutor";
+
+    @Bean(REFRESH_EXECUTOR)
+    public ThreadPoolTaskExecutor boardCacheRefreshExecutor(BoardCacheConfig config) {
+        int threads = Math.max(config.getRefreshThreads(), 1);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(config.getRefreshQueueCapacity());
+        executor.setThreadNamePrefix("board-cache-refresh-");
+        executor.setDaemon(true);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+}
@@ -3,12 +3,14 @@ package com.gjaku1031.templateforagent.infrastructure.config;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 import lombok.Getter;
 import lombok.Setter;
 
 /**
  * JWT 설정 프로퍼티 바인딩
- * <p>secret, 만료시간(ms), issuer를 매핑.</p>
+ * <p>secret, 만료시간(ms), issuer, 검증 토큰 캐시 크기, 블랙리스트 필터/토큰 에폭/리프레시 세션 설정을 매핑.</p>
  */
 @Getter
 @Setter
@@ -19,6 +21,42 @@ public class JwtConfig {
     private long accessTokenExpiration; // milliseconds
     private long refreshTokenExpiration; // milliseconds
     private String issuer;
+    private long verifiedTokenCacheSize = 10_000; // 검증 완료 토큰 로컬 캐시 최대 엔트리 수
+    private final Blacklist blacklist = new Blacklist();
+    private final Epoch epoch = new Epoch();
+    private final Session session = new Session();
 
     // reserved for cookie-based flow later: removed for now
+
+    /**
+     * 액세스 토큰 블랙리스트 로컬 필터 설정(jwt.blacklist.*)
+     */
+    @Getter
+    @Setter
+    public static class Blacklist {
+        private Duration bucketWidth = Duration.ofMinutes(5); // 만료 시각 기준 Bloom 버킷 폭
+        private long expectedInsertionsPerBucket = 10_000;
+        private double falsePositiveProbability = 0.001;
+        private Duration resyncInterval = Duration.ofMinutes(5); // Redis 전체 재동기화 주기
+    }
+
+    /**
+     * 사용자별 토큰 에폭 로컬 캐시 설정(jwt.epoch.*)
+     */
+    @Getter
+    @Setter
+    public static class Epoch {
+        private long cacheSize = 100_000;
+        private Duration cacheTtl = Duration.ofSeconds(30); // Pub/Sub 유실 시 최대 지연
+    }
+
+    /**
+     * 사용자별 리프레시 세션 설정(jwt.session.*)
+     */
+    @Getter
+    @Setter
+    public static class Session {
+        private int maxPerUser = 10; // 초과 시 만료가 가장 이른 세션부터 제거
+        private Duration rotationGrace = Duration.ofSeconds(10); // 직전 리프레시 토큰을 동시 요청으로 허용하는 시간(0이면 즉시 재사용 탐지)
+    }
 }
@@ -0,0 +1,25 @@
+package com.gjaku1031.templateforagent.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Prometheus 수집용 자격 증명 프로퍼티 바인딩(app.metrics.scrape.*)
+ * <p>수집기는 JWT를 발급받을 수 없으므로 {@code /actuator/prometheus}에 한해 HTTP Basic 계정을 별도로 둠.
+ * 비밀번호는 {@code {bcrypt}...} 또는 {@code {noop}...}처럼 인코딩 접두사를 붙여 지정하며,
+ * 비어 있으면 Basic 인증을 켜지 않고 관리자 토큰으로만 접근 가능.</p>
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.metrics.scrape")
+public class MetricsScrapeConfig {
+    private String username = "prometheus";
+    private String password;
+
+    public boolean isEnabled() {
+        return password != null && !password.isBlank();
+    }
+}
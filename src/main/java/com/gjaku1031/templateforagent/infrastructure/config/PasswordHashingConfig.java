@@ -0,0 +1,22 @@
+package com.gjaku1031.templateforagent.infrastructure.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 패스워드 해시 설정 프로퍼티 바인딩(app.security.password.*)
+ * <p>BCrypt 비용, 전용 해시 실행기 스레드 수/대기열 한도, 호출 측 대기 한도를 매핑.</p>
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.security.password")
+public class PasswordHashingConfig {
+    private int strength = 10; // BCrypt cost, 올리면 로그인 시 기존 해시를 자동 재해시
+    private int threads = Runtime.getRuntime().availableProcessors();
+    private int queueCapacity = 64; // 초과 시 즉시 503
+    private Duration waitTimeout = Duration.ofSeconds(5); // 대기열 + 해시 시간 합계 한도
+}
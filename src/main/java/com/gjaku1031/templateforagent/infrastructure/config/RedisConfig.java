@@ -1,23 +1,27 @@
 package com.gjaku1031.templateforagent.infrastructure.config;
 
+import com.gjaku1031.templateforagent.infrastructure.redis.MeteredRedisTemplate;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 /**
  * Redis 설정
+ * <p>문자열 RedisTemplate과 노드 간 브로드캐스트용 Pub/Sub 리스너 컨테이너를 등록.</p>
  */
 @Configuration
 public class RedisConfig {
 
     /**
-     * String-String 전용 RedisTemplate 구성(문자열 직렬화)
+     * String-String 전용 RedisTemplate 구성(문자열 직렬화, 명령별 지연 계측)
      */
     @Bean
-    public RedisTemplate<String, String> redisTemplate(RedisConnectionFactory connectionFactory) {
-        RedisTemplate<String, String> template = new RedisTemplate<>();
+    public RedisTemplate<String, String> redisTemplate(RedisConnectionFactory connectionFactory, MeterRegistry meterRegistry) {
+        RedisTemplate<String, String> template = new MeteredRedisTemplate<>(meterRegistry);
         template.setConnectionFactory(connectionFactory);
         StringRedisSerializer stringSerializer = new StringRedisSerializer();
         template.setKeySerializer(stringSerializer);
@@ -26,4 +30,14 @@ public class RedisConfig {
         template.setHashValueSerializer(stringSerializer);
         return template;
     }
+
+    /**
+     * Pub/Sub 구독 컨테이너(각 컴포넌트가 채널 리스너를 직접 등록)
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
 }
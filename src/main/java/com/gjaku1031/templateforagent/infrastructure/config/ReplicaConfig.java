@@ -0,0 +1,36 @@
+package com.gjaku1031.templateforagent.infrastructure.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 읽기 복제본 라우팅 설정 프로퍼티 바인딩(app.datasource.routing.*)
+ * <p>활성화 여부, 복제본 접속 정보, 헬스 체크 주기, 쓰기 직후 primary 고정(read-your-writes) 구간을 매핑.</p>
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.datasource.routing")
+public class ReplicaConfig {
+    private boolean enabled = false;
+    private final List<Replica> replicas = new ArrayList<>();
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+    private Duration readYourWritesWindow = Duration.ZERO; // 0이면 비활성, 쓰기 후 이 기간 동안 해당 사용자 읽기는 primary
+    private int replicaPoolSize = 10;
+
+    /**
+     * 복제본 접속 정보(app.datasource.routing.replicas[n].*)
+     */
+    @Getter
+    @Setter
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
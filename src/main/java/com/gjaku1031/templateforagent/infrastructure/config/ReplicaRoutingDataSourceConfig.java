@@ -0,0 +1,74 @@
+package com.gjaku1031.templateforagent.infrastructure.config;
+
+import com.gjaku1031.templateforagent.infrastructure.persistence.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.List;
+import java.util.stream.IntStream;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * 읽기 복제본 라우팅 DataSource 구성({@code app.datasource.routing.enabled=true}일 때만)
+ * <p>기본 DataSource 자동 구성을 대체: primary 풀({@code spring.datasource.*}, {@code spring.datasource.hikari.*})과
+ * 복제본 풀을 만들고 {@link ReplicaRoutingDataSource} + {@link LazyConnectionDataSourceProxy}로 묶어 등록.</p>
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.routing.enabled", havingValue = "true")
+public class ReplicaRoutingDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties,
+                                              ObjectProvider<JdbcConnectionDetails> connectionDetails) {
+        JdbcConnectionDetails details = connectionDetails.getIfAvailable();
+        HikariDataSource dataSource = DataSourceBuilder.create(properties.getClassLoader())
+                .type(HikariDataSource.class)
+                .url(details != null ? details.getJdbcUrl() : properties.determineUrl())
+                .username(details != null ? details.getUsername() : properties.determineUsername())
+                .password(details != null ? details.getPassword() : properties.determinePassword())
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource, ReplicaConfig config) {
+        List<DataSource> replicas = IntStream.range(0, config.getReplicas().size())
+                .mapToObj(i -> (DataSource) replica(i, config.getReplicas().get(i), primaryDataSource, config.getReplicaPoolSize()))
+                .toList();
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, config.getReadYourWritesWindow());
+    }
+
+    /**
+     * 애플리케이션이 사용하는 DataSource(첫 쿼리 시점까지 실제 커넥션 획득을 미뤄 readOnly 여부로 라우팅)
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    private HikariDataSource replica(int index, ReplicaConfig.Replica replica, HikariDataSource primary, int poolSize) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica-" + index);
+        dataSource.setJdbcUrl(replica.getUrl());
+        dataSource.setUsername(replica.getUsername() != null ? replica.getUsername() : primary.getUsername());
+        dataSource.setPassword(replica.getPassword() != null ? replica.getPassword() : primary.getPassword());
+        dataSource.setDataSourceProperties(primary.getDataSourceProperties());
+        dataSource.setMaximumPoolSize(poolSize);
+        dataSource.setReadOnly(true);
+        dataSource.setConnectionTimeout(2_000); // 장애 복제본에서 오래 대기하지 않고 다음 후보로
+        // 기동 시 복제본이 내려가 있어도 애플리케이션은 뜨고 헬스 체크가 제외/복구를 담당
+        dataSource.setInitializationFailTimeout(-1);
+        return dataSource;
+    }
+}
@@ -0,0 +1,13 @@
+package com.gjaku1031.templateforagent.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * <p>{@code @Scheduled} 주기 작업(블랙리스트 재동기화 등) 활성화.</p>
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -5,11 +5,19 @@ import com.gjaku1031.templateforagent.infrastructure.security.jwt.JwtUtil;
 import com.gjaku1031.templateforagent.infrastructure.security.evaluator.AppPermissionEvaluator;
 import com.gjaku1031.templateforagent.infrastructure.security.handler.AccessDeniedHandlerImpl;
 import com.gjaku1031.templateforagent.infrastructure.security.handler.AuthenticationEntryPointImpl;
+import com.gjaku1031.templateforagent.infrastructure.security.password.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.metrics.export.prometheus.PrometheusScrapeEndpoint;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
@@ -17,8 +25,11 @@ import org.springframework.security.access.expression.method.MethodSecurityExpre
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -27,6 +38,7 @@ import org.springframework.web.cors.CorsConfigurationSource;
 /**
  * Spring Security 설정
  * <p>무상태 세션, JWT 필터, 엔드포인트 접근 제어를 구성.</p>
+ * <p>액추에이터는 별도 체인에서 처리: health만 공개, prometheus는 관리자 또는 수집용 Basic 계정, 나머지는 관리자 전용.</p>
  */
 @Configuration
 @EnableWebSecurity
@@ -34,16 +46,69 @@ import org.springframework.web.cors.CorsConfigurationSource;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    private static final String SCRAPE_AUTHORITY = "ROLE_METRICS_SCRAPER";
+
     private final JwtUtil jwtUtil;
     private final CorsConfigurationSource corsConfigurationSource;
     
     private final AppPermissionEvaluator appPermissionEvaluator;
 
+    /**
+     * 액추에이터 보안 필터 체인({@code /actuator/**}, 애플리케이션 체인보다 먼저 매칭)
+     * <ul>
+     *   <li>health: 공개(로드밸런서/오케스트레이터 프로브)</li>
+     *   <li>prometheus: 관리자 토큰 또는 {@link MetricsScrapeConfig} 계정(HTTP Basic)</li>
+     *   <li>그 외(metrics, info, pinning 등): 관리자 전용</li>
+     * </ul>
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain actuatorFilterChain(HttpSecurity http, MeterRegistry meterRegistry,
+                                                   MetricsScrapeConfig scrapeConfig) throws Exception {
+        http
+                .securityMatcher(EndpointRequest.toAnyEndpoint())
+                .csrf(csrf -> csrf.disable())
+                .formLogin(form -> form.disable())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(auth -> auth
+                        .requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+                        .requestMatchers(EndpointRequest.to(PrometheusScrapeEndpoint.class))
+                        .hasAnyAuthority("ROLE_ADMIN", SCRAPE_AUTHORITY)
+                        .anyRequest().hasAuthority("ROLE_ADMIN")
+                );
+
+        if (scrapeConfig.isEnabled()) {
+            // 수집 계정은 이 체인에서만 인증되는 인메모리 사용자(DB 사용자 조회와 분리)
+            InMemoryUserDetailsManager scrapeUsers = new InMemoryUserDetailsManager(User
+                    .withUsername(scrapeConfig.getUsername())
+                    .password(scrapeConfig.getPassword())
+                    .authorities(SCRAPE_AUTHORITY)
+                    .build());
+            DaoAuthenticationProvider provider = new DaoAuthenticationProvider(scrapeUsers);
+            provider.setPasswordEncoder(PasswordEncoderFactories.createDelegatingPasswordEncoder());
+            http
+                    .authenticationManager(new ProviderManager(provider))
+                    .httpBasic(basic -> basic.authenticationEntryPoint(new AuthenticationEntryPointImpl()));
+        } else {
+            http.httpBasic(basic -> basic.disable());
+        }
+
+        http
+                .addFilterAfter(new JwtFilter(jwtUtil, meterRegistry), UsernamePasswordAuthenticationFilter.class)
+                .exceptionHandling(exceptions -> exceptions
+                        .authenticationEntryPoint(new AuthenticationEntryPointImpl())
+                        .accessDeniedHandler(new AccessDeniedHandlerImpl())
+                );
+
+        return http.build();
+    }
+
     /**
      * HTTP 보안 필터 체인 구성
      */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    @Order(2)
+    public SecurityFilterChain filterChain(HttpSecurity http, MeterRegistry meterRegistry) throws Exception {
         http
                 .cors(cors -> cors.configurationSource(corsConfigurationSource))
                 .csrf(csrf -> csrf.disable())
@@ -61,7 +126,7 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
 
         http
-                .addFilterAfter(new JwtFilter(jwtUtil), UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(new JwtFilter(jwtUtil, meterRegistry), UsernamePasswordAuthenticationFilter.class)
                 .exceptionHandling(exceptions -> exceptions
                         .authenticationEntryPoint(new AuthenticationEntryPointImpl())
                         .accessDeniedHandler(new AccessDeniedHandlerImpl())
@@ -81,11 +146,12 @@ public class SecurityConfig {
     }
 
     /**
-     * 패스워드 인코더(BCrypt)
+     * 패스워드 인코더(BCrypt, 전용 해시 실행기에서 수행)
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(10);
+    public PasswordEncoder passwordEncoder(PasswordHashingConfig passwordHashingConfig, MeterRegistry meterRegistry) {
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(passwordHashingConfig.getStrength()),
+                passwordHashingConfig, meterRegistry);
     }
 
     /**
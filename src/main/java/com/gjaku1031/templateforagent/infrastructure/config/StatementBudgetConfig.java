@@ -0,0 +1,49 @@
+package com.gjaku1031.templateforagent.infrastructure.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 요청당 SQL 문 수 예산 설정 프로퍼티 바인딩(app.jpa.statement-budget.*)
+ * <p>엔드포인트별 예산은 {@code endpoints[<경로 패턴>].<HTTP 메서드>=<문 수>}로 지정하고, 없으면 기본 예산 적용.
+ * 예: {@code app.jpa.statement-budget.endpoints[/api/boards/{id}].GET=1}.
+ * 행 수에 비례하는 일괄 처리 엔드포인트처럼 예산이 의미 없는 경우 음수(-1)로 지정해 예산 검사에서 제외.</p>
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.jpa.statement-budget")
+public class StatementBudgetConfig {
+    private boolean enabled = true;
+    private Mode mode = Mode.LOG;
+    private int defaultBudget = 10;
+    private boolean exposeHeader = false; // X-Query-Count 응답 헤더(내부 정보이므로 개발/테스트 프로필에서만 켬)
+    private Map<String, Map<String, Integer>> endpoints = new LinkedHashMap<>();
+
+    /**
+     * 예산 초과 시 동작
+     */
+    public enum Mode {
+        /** 요청 종료 시 경고 로그 + 카운터 */
+        LOG,
+        /** 예산을 넘는 SQL을 준비하는 순간 예외(500)로 요청 중단 */
+        REJECT
+    }
+
+    /**
+     * 엔드포인트 예산 조회(메서드는 대소문자 무시)
+     */
+    public int budgetFor(String method, String pattern) {
+        Map<String, Integer> byMethod = endpoints.get(pattern);
+        if (byMethod != null) {
+            for (Map.Entry<String, Integer> entry : byMethod.entrySet()) {
+                if (entry.getKey().equalsIgnoreCase(method)) return entry.getValue();
+            }
+        }
+        return defaultBudget;
+    }
+}
@@ -1,22 +1,28 @@
 package com.gjaku1031.templateforagent.infrastructure.config;
 
 import com.gjaku1031.templateforagent.infrastructure.web.CurrentUserArgumentResolver;
+import com.gjaku1031.templateforagent.infrastructure.web.EndpointAsyncTimeoutInterceptor;
+import com.gjaku1031.templateforagent.infrastructure.web.StatementBudgetInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import java.util.List;
 
 /**
  * Spring Web MVC 설정
- * <p>커스텀 아규먼트 리졸버 등록.</p>
+ * <p>커스텀 아규먼트 리졸버, 요청당 SQL 문 예산 인터셉터, 엔드포인트별 비동기 제한 시간 등록.</p>
  */
 @Configuration
 @RequiredArgsConstructor
 public class WebMvcConfig implements WebMvcConfigurer {
 
     private final CurrentUserArgumentResolver currentUserArgumentResolver;
+    private final StatementBudgetInterceptor statementBudgetInterceptor;
+    private final EndpointAsyncTimeoutInterceptor endpointAsyncTimeoutInterceptor;
 
     /**
      * @see CurrentUserArgumentResolver
@@ -25,4 +31,20 @@ public class WebMvcConfig implements WebMvcConfigurer {
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
         resolvers.add(currentUserArgumentResolver);
     }
+
+    /**
+     * @see StatementBudgetInterceptor
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(statementBudgetInterceptor);
+    }
+
+    /**
+     * @see EndpointAsyncTimeoutInterceptor
+     */
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.registerCallableInterceptors(endpointAsyncTimeoutInterceptor);
+    }
 }
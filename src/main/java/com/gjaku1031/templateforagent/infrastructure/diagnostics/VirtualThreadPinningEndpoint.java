@@ -0,0 +1,129 @@
+package com.gjaku1031.templateforagent.infrastructure.diagnostics;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가상 스레드 캐리어 고정(pinning) 진단 엔드포인트({@code /actuator/pinning}, virtual 프로필 전용)
+ * <p>JFR {@code jdk.VirtualThreadPinned} 이벤트를 인프로세스 스트림으로 구독해
+ * {@code synchronized} 블록/네이티브 프레임 안에서 블로킹되어 캐리어 스레드를 붙잡은 지점을 호출 위치별로 집계.</p>
+ * <ul>
+ *   <li>{@code app.diagnostics.pinning.threshold} 이상 고정된 경우만 기록(기본 20ms)</li>
+ *   <li>집계 키는 애플리케이션/드라이버 프레임이 드러나도록 JDK 내부 프레임을 건너뛴 상위 스택</li>
+ *   <li>DELETE로 집계 초기화</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@Profile("virtual")
+@Endpoint(id = "pinning")
+public class VirtualThreadPinningEndpoint {
+
+    private static final String EVENT = "jdk.VirtualThreadPinned";
+    private static final int STACK_DEPTH = 8;
+
+    private final Duration threshold;
+    private final Map<String, Site> sites = new ConcurrentHashMap<>();
+    private final LongAdder total = new LongAdder();
+    private volatile Instant since = Instant.now();
+    private RecordingStream stream;
+
+    public VirtualThreadPinningEndpoint(@Value("${app.diagnostics.pinning.threshold:PT0.02S}") Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    @PostConstruct
+    public void start() {
+        try {
+            stream = new RecordingStream();
+            stream.enable(EVENT).withThreshold(threshold).withStackTrace();
+            stream.onEvent(EVENT, this::record);
+            stream.startAsync();
+        } catch (RuntimeException e) {
+            // JFR 미지원 런타임이면 진단만 비활성화
+            log.warn("Virtual thread pinning diagnostics unavailable", e);
+            stream = null;
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) stream.close();
+    }
+
+    @ReadOperation
+    public Map<String, Object> report() {
+        List<Map<String, Object>> top = sites.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, Site> e) -> e.getValue().totalNanos.get()).reversed())
+                .limit(50)
+                .map(e -> {
+                    Map<String, Object> site = new LinkedHashMap<>();
+                    site.put("stack", e.getKey().lines().toList());
+                    site.put("count", e.getValue().count.sum());
+                    site.put("totalMillis", e.getValue().totalNanos.get() / 1_000_000);
+                    site.put("maxMillis", e.getValue().maxNanos.get() / 1_000_000);
+                    return site;
+                })
+                .collect(Collectors.toList());
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("active", stream != null);
+        body.put("threshold", threshold.toString());
+        body.put("since", since.toString());
+        body.put("events", total.sum());
+        body.put("sites", top);
+        return body;
+    }
+
+    @DeleteOperation
+    public void reset() {
+        sites.clear();
+        total.reset();
+        since = Instant.now();
+    }
+
+    private void record(RecordedEvent event) {
+        long nanos = event.getDuration().toNanos();
+        total.increment();
+        Site site = sites.computeIfAbsent(stackKey(event.getStackTrace()), k -> new Site());
+        site.count.increment();
+        site.totalNanos.addAndGet(nanos);
+        site.maxNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    private String stackKey(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) return "<no stack>";
+        return stackTrace.getFrames().stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .map(f -> f.getMethod().getType().getName() + "." + f.getMethod().getName() + ":" + f.getLineNumber())
+                .filter(frame -> !frame.startsWith("java.") && !frame.startsWith("jdk.") && !frame.startsWith("sun."))
+                .limit(STACK_DEPTH)
+                .collect(Collectors.joining("\n"));
+    }
+
+    private static final class Site {
+        private final LongAdder count = new LongAdder();
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final AtomicLong maxNanos = new AtomicLong();
+    }
+}
@@ -0,0 +1,47 @@
+package com.gjaku1031.templateforagent.infrastructure.diagnostics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 게시글 검색 JFR 이벤트
+ * <p>검색어 길이와 반환 행 수를 함께 기록해 느린 검색이 긴 검색어(LIKE 비용)인지 큰 페이지인지 구분.
+ * 검색어 원문은 개인정보일 수 있어 길이만 남김.</p>
+ */
+@Name("templateforagent.BoardSearch")
+@Label("Board Search")
+@Category({"TemplateForAgent", "Board"})
+@Description("Board search by keyword (offset page or keyset cursor)")
+@StackTrace(false)
+public class BoardSearchEvent extends Event {
+
+    @Label("Mode")
+    @Description("page: offset + count query, cursor: keyset")
+    String mode;
+
+    @Label("Keyword Length")
+    int keywordLength;
+
+    @Label("Rows")
+    int rows;
+
+    /**
+     * 측정 종료 후 기록 대상일 때만 커밋
+     *
+     * @param mode    page 또는 cursor
+     * @param keyword 검색어(null이면 길이 0)
+     * @param rows    반환한 행 수
+     */
+    public void complete(String mode, String keyword, int rows) {
+        end();
+        if (!shouldCommit()) return;
+        this.mode = mode;
+        this.keywordLength = keyword == null ? 0 : keyword.length();
+        this.rows = rows;
+        commit();
+    }
+}
@@ -0,0 +1,12 @@
+package com.gjaku1031.templateforagent.infrastructure.diagnostics.jfr;
+
+import java.nio.file.Path;
+
+/**
+ * 기록을 마치고 임시 파일로 덤프한 JFR 결과(기록 자원은 이미 해제됨)
+ *
+ * @param name 기록 이름(다운로드 파일명)
+ * @param file .jfr 임시 파일({@link JfrRecorder#transfer}에서 전송 후 삭제)
+ */
+public record JfrDump(String name, Path file) {
+}
@@ -0,0 +1,133 @@
+package com.gjaku1031.templateforagent.infrastructure.diagnostics.jfr;
+
+import com.gjaku1031.templateforagent.common.error.ErrorCode;
+import com.gjaku1031.templateforagent.common.error.exception.BusinessException;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicBoolean;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청 시점 JFR 기록 담당
+ * <p>재시작이나 외부 에이전트 없이 실행 중인 노드에서 지정한 시간만큼 기록한 뒤 임시 파일로 덤프해 {@link JfrDump} 반환.
+ * 기록 설정은 JDK 제공 프로필({@code default}: 상시 운영용 저부하, {@code profile}: 샘플링/할당 상세) 중 선택하며,
+ * 애플리케이션 이벤트({@code templateforagent.*})는 어노테이션 기본값으로 함께 활성화.</p>
+ * <ul>
+ *   <li>기록 시간은 {@code app.diagnostics.jfr.max-duration}(기본 5분) 이하로 제한</li>
+ *   <li>노드당 동시 기록 1건(진행 중이면 409)</li>
+ *   <li>기록은 디스크 청크에 쌓이므로 힙 사용량과 무관</li>
+ *   <li>{@link Recording}은 덤프 직후 {@link #record} 안에서 닫으므로 응답 전송 여부와 무관하게 해제됨</li>
+ *   <li>덤프 파일은 전송 후 삭제하고, 클라이언트가 끊겨 전송되지 못한 파일은 다음 기록 시 {@value #STALE_AFTER_HOURS}시간이 지났으면 삭제,
+ *       종료 시 모두 삭제</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class JfrRecorder {
+
+    private static final DateTimeFormatter NAME_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final long STALE_AFTER_HOURS = 1;
+
+    private final Duration maxDuration;
+    private final AtomicBoolean recording = new AtomicBoolean();
+    private final Path dumpDirectory;
+
+    public JfrRecorder(@Value("${app.diagnostics.jfr.max-duration:PT5M}") Duration maxDuration) throws IOException {
+        this.maxDuration = maxDuration;
+        this.dumpDirectory = Files.createTempDirectory("templateforagent-jfr");
+    }
+
+    /**
+     * 지정한 시간 동안 기록하고 임시 파일로 덤프(호출 스레드는 기록 시간만큼 대기)
+     *
+     * @param duration 기록 시간(0 초과, 최대 시간 이하)
+     * @param settings JFR 설정 이름(default, profile 등 {@link Configuration#getConfigurations()} 중 하나)
+     */
+    public JfrDump record(Duration duration, String settings) {
+        if (duration.isNegative() || duration.isZero() || duration.compareTo(maxDuration) > 0) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "Recording duration must be between 1s and " + maxDuration);
+        }
+        Configuration configuration = configuration(settings);
+        if (!recording.compareAndSet(false, true)) {
+            throw new BusinessException(ErrorCode.CONFLICT, "A JFR recording is already in progress");
+        }
+        purgeStaleDumps();
+        try (Recording jfr = new Recording(configuration)) {
+            jfr.setName("templateforagent-" + LocalDateTime.now().format(NAME_FORMAT));
+            jfr.setToDisk(true);
+            jfr.start();
+            log.info("JFR recording started: name={}, settings={}, duration={}", jfr.getName(), settings, duration);
+            Thread.sleep(duration.toMillis());
+            jfr.stop();
+            Path file = Files.createTempFile(dumpDirectory, jfr.getName() + "-", ".jfr");
+            try {
+                jfr.dump(file);
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(file);
+                throw e;
+            }
+            return new JfrDump(jfr.getName(), file);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE, "JFR recording interrupted");
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to dump JFR recording", e);
+        } finally {
+            recording.set(false);
+        }
+    }
+
+    /**
+     * 덤프 파일을 .jfr 바이너리로 출력하고 삭제(전송 중 연결이 끊겨도 삭제)
+     */
+    public void transfer(JfrDump dump, OutputStream out) throws IOException {
+        try {
+            Files.copy(dump.file(), out);
+        } finally {
+            Files.deleteIfExists(dump.file());
+        }
+    }
+
+    @PreDestroy
+    public void cleanUp() throws IOException {
+        deleteDumps(Instant.MAX);
+        Files.deleteIfExists(dumpDirectory);
+    }
+
+    // 응답이 시작되기 전에 클라이언트가 끊겨 transfer가 호출되지 않은 덤프 정리
+    private void purgeStaleDumps() {
+        deleteDumps(Instant.now().minus(Duration.ofHours(STALE_AFTER_HOURS)));
+    }
+
+    private void deleteDumps(Instant modifiedBefore) {
+        try (DirectoryStream<Path> dumps = Files.newDirectoryStream(dumpDirectory, "*.jfr")) {
+            for (Path dump : dumps) {
+                if (Files.getLastModifiedTime(dump).toInstant().isBefore(modifiedBefore)) Files.deleteIfExists(dump);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to clean up JFR dumps in {}", dumpDirectory, e);
+        }
+    }
+
+    private Configuration configuration(String settings) {
+        try {
+            return Configuration.getConfiguration(settings);
+        } catch (IOException | ParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "Unknown JFR settings: " + settings);
+        }
+    }
+}
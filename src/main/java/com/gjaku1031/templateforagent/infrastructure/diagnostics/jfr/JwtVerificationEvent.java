@@ -0,0 +1,37 @@
+package com.gjaku1031.templateforagent.infrastructure.diagnostics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JWT 검증 JFR 이벤트
+ * <p>캐시 적중 여부와 검증 결과를 기록. 지속 시간으로 HMAC 검증/클레임 파싱 비용 확인.</p>
+ */
+@Name("templateforagent.JwtVerification")
+@Label("JWT Verification")
+@Category({"TemplateForAgent", "Security"})
+@Description("Access/refresh token signature and claim verification")
+@StackTrace(false)
+public class JwtVerificationEvent extends Event {
+
+    @Label("Cache Hit")
+    boolean cached;
+
+    @Label("Valid")
+    boolean valid;
+
+    /**
+     * 측정 종료 후 기록 대상(활성화 + 임계값 충족)일 때만 필드를 채워 커밋
+     */
+    public void complete(boolean cached, boolean valid) {
+        end();
+        if (!shouldCommit()) return;
+        this.cached = cached;
+        this.valid = valid;
+        commit();
+    }
+}
@@ -0,0 +1,41 @@
+package com.gjaku1031.templateforagent.infrastructure.diagnostics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 도메인 권한 평가 JFR 이벤트
+ * <p>대상 타입별로 소유권 조회(캐시 미스 시 DB) 비용과 허용 여부를 기록.</p>
+ */
+@Name("templateforagent.PermissionEvaluation")
+@Label("Permission Evaluation")
+@Category({"TemplateForAgent", "Security"})
+@Description("hasPermission(targetId, targetType, permission) evaluation")
+@StackTrace(false)
+public class PermissionEvaluationEvent extends Event {
+
+    @Label("Target Type")
+    String targetType;
+
+    @Label("Permission")
+    String permission;
+
+    @Label("Granted")
+    boolean granted;
+
+    /**
+     * 측정 종료 후 기록 대상일 때만 커밋(permission 문자열 변환도 이때만 수행)
+     */
+    public void complete(String targetType, Object permission, boolean granted) {
+        end();
+        if (!shouldCommit()) return;
+        this.targetType = targetType;
+        this.permission = String.valueOf(permission);
+        this.granted = granted;
+        commit();
+    }
+}
@@ -0,0 +1,38 @@
+package com.gjaku1031.templateforagent.infrastructure.diagnostics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Redis 명령 JFR 이벤트
+ * <p>{@code redis.command} 타이머와 같은 단위(명령, 키 prefix)로 기록. 스택 트레이스를 남겨
+ * 같은 prefix를 어느 호출 경로가 두드리는지 확인 가능.</p>
+ */
+@Name("templateforagent.RedisCall")
+@Label("Redis Call")
+@Category({"TemplateForAgent", "Redis"})
+@Description("Keyed Redis command or Lua script execution")
+@StackTrace(true)
+public class RedisCallEvent extends Event {
+
+    @Label("Command")
+    String command;
+
+    @Label("Key Prefix")
+    String prefix;
+
+    /**
+     * 측정 종료 후 기록 대상일 때만 커밋
+     */
+    public void complete(String command, String prefix) {
+        end();
+        if (!shouldCommit()) return;
+        this.command = command;
+        this.prefix = prefix;
+        commit();
+    }
+}
@@ -0,0 +1,84 @@
+package com.gjaku1031.templateforagent.infrastructure.messaging;
+
+import com.gjaku1031.templateforagent.domain.board.BoardChangedEvent;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 게시글 변경 브로드캐스터
+ * <p>커밋된 {@link BoardChangedEvent}를 로컬 {@link BoardChangeSubscriber}에 즉시 전달하고,
+ * Redis {@value #CHANNEL} 채널로 발행해 다른 노드의 구독자에게도 전달.</p>
+ * <p><b>설계 메모</b></p>
+ * <ul>
+ *   <li>메시지 형식: {@code 노드ID|종류|id,id,...} — 자기 노드가 발행한 메시지는 수신 시 무시</li>
+ *   <li>롤백된 변경은 전파하지 않도록 커밋 이후(AFTER_COMMIT)에만 처리</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class BoardChangeBroadcaster implements MessageListener {
+
+    public static final String CHANNEL = "board:changes";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectProvider<BoardChangeSubscriber> subscribers;
+
+    public BoardChangeBroadcaster(RedisTemplate<String, String> redisTemplate,
+                                  ObjectProvider<BoardChangeSubscriber> subscribers,
+                                  RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.subscribers = subscribers;
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onBoardChanged(BoardChangedEvent event) {
+        dispatch(event);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, encode(event));
+        } catch (Exception e) {
+            log.warn("Failed to broadcast board change {}", event, e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) return;
+        try {
+            BoardChangedEvent.Kind kind = BoardChangedEvent.Kind.valueOf(parts[1]);
+            var ids = Arrays.stream(parts[2].split(",")).map(Long::valueOf).toList();
+            dispatch(new BoardChangedEvent(kind, ids));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed board change message", e);
+        }
+    }
+
+    private void dispatch(BoardChangedEvent event) {
+        subscribers.orderedStream().forEach(subscriber -> {
+            try {
+                subscriber.onBoardChanged(event);
+            } catch (Exception e) {
+                log.warn("Board change subscriber {} failed for {}", subscriber.getClass().getSimpleName(), event, e);
+            }
+        });
+    }
+
+    private String encode(BoardChangedEvent event) {
+        String ids = event.boardIds().stream().map(String::valueOf).collect(Collectors.joining(","));
+        return nodeId + "|" + event.kind() + "|" + ids;
+    }
+}
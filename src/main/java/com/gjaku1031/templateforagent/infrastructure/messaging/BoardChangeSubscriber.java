@@ -0,0 +1,12 @@
+package com.gjaku1031.templateforagent.infrastructure.messaging;
+
+import com.gjaku1031.templateforagent.domain.board.BoardChangedEvent;
+
+/**
+ * 게시글 변경 구독자
+ * <p>{@link BoardChangeBroadcaster}가 커밋된 변경(로컬/다른 노드)을 전달하는 대상. 검색 색인, 캐시 등이 구현.</p>
+ */
+public interface BoardChangeSubscriber {
+
+    void onBoardChanged(BoardChangedEvent event);
+}
@@ -0,0 +1,109 @@
+package com.gjaku1031.templateforagent.infrastructure.persistence;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 커넥션 점유 시간 계측 DataSource
+ * <p>{@code getConnection()}부터 {@code close()}(풀 반환)까지를 {@code jdbc.connection.hold}
+ * 타이머로 기록하고, 반환 시점의 요청 핸들러 패턴/HTTP 메서드로 태깅.
+ * 요청 밖(스케줄러, 비동기 스트리밍 등)에서 쓴 커넥션은 {@code uri=none}.</p>
+ */
+public class ConnectionHoldTimingDataSource extends DelegatingDataSource {
+
+    static final String METRIC = "jdbc.connection.hold";
+
+    private final MeterRegistry meterRegistry;
+
+    public ConnectionHoldTimingDataSource(DataSource target, MeterRegistry meterRegistry) {
+        super(target);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return timed(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return timed(super.getConnection(username, password));
+    }
+
+    private Connection timed(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                ConnectionHoldTimingDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                new HoldTimer(connection, System.nanoTime()));
+    }
+
+    private void record(long heldNanos) {
+        String uri = "none";
+        String method = "none";
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletRequest request = attributes.getRequest();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            uri = pattern == null ? "UNKNOWN" : pattern.toString();
+            method = request.getMethod();
+        }
+        Timer.builder(METRIC)
+                .description("Time a JDBC connection stays checked out of the pool")
+                .tag("uri", uri)
+                .tag("method", method)
+                .register(meterRegistry)
+                .record(heldNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private final class HoldTimer implements InvocationHandler {
+        private final Connection target;
+        private final long acquiredAt;
+        private boolean closed;
+
+        private HoldTimer(Connection target, long acquiredAt) {
+            this.target = target;
+            this.acquiredAt = acquiredAt;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "unwrap":
+                    if (((Class<?>) args[0]).isInstance(proxy)) return proxy;
+                    break;
+                case "isWrapperFor":
+                    if (((Class<?>) args[0]).isInstance(proxy)) return true;
+                    break;
+                case "close":
+                    if (!closed) {
+                        closed = true;
+                        record(System.nanoTime() - acquiredAt);
+                    }
+                    break;
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
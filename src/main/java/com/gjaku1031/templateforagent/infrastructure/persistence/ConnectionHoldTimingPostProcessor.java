@@ -0,0 +1,34 @@
+package com.gjaku1031.templateforagent.infrastructure.persistence;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션 DataSource를 {@link ConnectionHoldTimingDataSource}로 감싸는 후처리기
+ * <p>OSIV를 끈 뒤 커넥션이 직렬화 전에 풀로 돌아가는지 엔드포인트별로 확인하기 위한 계측.
+ * {@code app.datasource.hold-time-metrics.enabled=false}로 끌 수 있음.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "app.datasource.hold-time-metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class ConnectionHoldTimingPostProcessor implements BeanPostProcessor {
+
+    // 후처리기는 일찍 생성되므로 MeterRegistry는 실제 래핑 시점에 조회
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public ConnectionHoldTimingPostProcessor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionHoldTimingDataSource)
+                && "dataSource".equals(beanName)) {
+            return new ConnectionHoldTimingDataSource(dataSource, meterRegistry.getObject());
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,138 @@
+package com.gjaku1031.templateforagent.infrastructure.persistence;
+
+import com.gjaku1031.templateforagent.infrastructure.security.AuthenticatedUser;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본으로 보내는 라우팅 DataSource
+ * <p>{@code @Transactional(readOnly = true)} 트랜잭션은 정상 복제본 중 하나(라운드 로빈)로, 그 외는 primary로 연결.
+ * 트랜잭션 시작 시점에는 readOnly 여부가 아직 바인딩되지 않으므로 반드시
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}로 감싸 첫 쿼리 시점에 라우팅.</p>
+ * <p>트랜잭션 밖 커넥션(스키마 초기화, 트랜잭션 없는 조회)은 readOnly가 아니므로 primary.
+ * 복제본으로 보내려는 조회는 읽기 전용 트랜잭션 안에서 실행해야 함(예: 게시글 캐시 미스 로더, 작성자 id 조회).</p>
+ * <ul>
+ *   <li>헬스 체크: {@code health-check-interval}마다 {@code Connection.isValid}로 확인, 실패한 복제본은 회복 전까지 제외</li>
+ *   <li>장애 대응: 복제본 연결 실패 시 즉시 제외하고 다음 복제본, 모두 불가하면 primary</li>
+ *   <li>read-your-writes: 쓰기 트랜잭션을 연 사용자는 {@code read-your-writes-window} 동안 읽기도 primary(노드 로컬)</li>
+ * </ul>
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements DisposableBean {
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Cache<Long, Boolean> recentWriters;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration readYourWritesWindow) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.recentWriters = readYourWritesWindow.isZero() || readYourWritesWindow.isNegative()
+                ? null
+                : Caffeine.newBuilder().expireAfterWrite(readYourWritesWindow).maximumSize(100_000).build();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    /**
+     * 자격 증명을 지정한 커넥션(라우팅 규칙은 {@link #getConnection()}과 같고, 고른 대상에 자격 증명을 그대로 전달)
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(target -> target.getConnection(username, password));
+    }
+
+    /**
+     * 복제본 헬스 체크(제외된 복제본 복구 포함)
+     */
+    @Scheduled(fixedDelayString = "${app.datasource.routing.health-check-interval:PT5S}")
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            boolean healthy;
+            try (Connection connection = replica.dataSource.getConnection()) {
+                healthy = connection.isValid(1);
+            } catch (SQLException e) {
+                healthy = false;
+            }
+            if (replica.healthy.getAndSet(healthy) != healthy) {
+                log.warn("Read replica {} is now {}", replicas.indexOf(replica), healthy ? "healthy" : "unhealthy");
+            }
+        }
+    }
+
+    /**
+     * 복제본 풀 종료(복제본은 빈으로 등록되지 않으므로 직접 정리, primary는 컨테이너가 정리)
+     */
+    @Override
+    public void destroy() throws Exception {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) closeable.close();
+        }
+    }
+
+    private Connection route(ConnectionOpener opener) throws SQLException {
+        Long userId = currentUserId();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (recentWriters != null && userId != null) recentWriters.put(userId, Boolean.TRUE);
+            return opener.open(primary);
+        }
+        if (recentWriters != null && userId != null && recentWriters.getIfPresent(userId) != null) {
+            return opener.open(primary);
+        }
+        return readConnection(opener);
+    }
+
+    private Connection readConnection(ConnectionOpener opener) throws SQLException {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.healthy.get()) continue;
+            try {
+                return opener.open(replica.dataSource);
+            } catch (SQLException e) {
+                replica.healthy.set(false);
+                log.warn("Read replica {} failed, excluding until next health check", (start + i) % size, e);
+            }
+        }
+        return opener.open(primary);
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser user) return user.id();
+        return null;
+    }
+
+    @FunctionalInterface
+    private interface ConnectionOpener {
+        Connection open(DataSource target) throws SQLException;
+    }
+
+    private static final class Replica {
+        private final DataSource dataSource;
+        private final AtomicBoolean healthy = new AtomicBoolean(true);
+
+        private Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+    }
+}
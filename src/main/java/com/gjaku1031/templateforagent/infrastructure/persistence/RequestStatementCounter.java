@@ -0,0 +1,110 @@
+package com.gjaku1031.templateforagent.infrastructure.persistence;
+
+import com.gjaku1031.templateforagent.common.error.ErrorCode;
+import com.gjaku1031.templateforagent.common.error.exception.BusinessException;
+import com.gjaku1031.templateforagent.infrastructure.config.StatementBudgetConfig;
+import java.util.Map;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청 단위 SQL 문 수 집계기(Hibernate StatementInspector)
+ * <p>Hibernate가 준비하는 모든 SQL을 통과시키면서 현재 스레드에 열린 집계 구간이 있으면 1씩 증가.
+ * 구간은 {@link #begin()}/{@link #end()}로 열고 닫으며(웹 요청은 필터가 담당), 구간 밖 SQL은 세지 않음.</p>
+ * <p>구간에 예산이 지정되어 있고({@link #limit}) {@code REJECT} 모드면 예산을 넘는 SQL을 준비하는 순간 예외를 던져
+ * 누락된 fetch join 등으로 생긴 N+1이 운영 전에 드러나게 함.</p>
+ */
+@Component
+public class RequestStatementCounter implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private static final ThreadLocal<Window> CURRENT = new ThreadLocal<>();
+
+    private final StatementBudgetConfig budgetConfig;
+
+    public RequestStatementCounter(StatementBudgetConfig budgetConfig) {
+        this.budgetConfig = budgetConfig;
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Window window = CURRENT.get();
+        if (window == null) return sql;
+        window.count++;
+        if (window.exceeded() && !window.rejected
+                && budgetConfig.isEnabled() && budgetConfig.getMode() == StatementBudgetConfig.Mode.REJECT) {
+            window.rejected = true;
+            throw new BusinessException(ErrorCode.INTERNAL_ERROR, "SQL statement budget exceeded for "
+                    + window.endpoint + ": " + window.count + " > " + window.budget);
+        }
+        return sql;
+    }
+
+    /**
+     * 현재 스레드에 집계 구간 시작
+     */
+    public static void begin() {
+        CURRENT.set(new Window());
+    }
+
+    /**
+     * 현재 구간에 엔드포인트와 예산 지정(핸들러가 정해진 뒤 호출)
+     */
+    public static void limit(String endpoint, int budget) {
+        Window window = CURRENT.get();
+        if (window == null) return;
+        window.endpoint = endpoint;
+        window.budget = budget;
+    }
+
+    /**
+     * 현재까지 센 SQL 문 수(구간이 없으면 0)
+     */
+    public static int current() {
+        Window window = CURRENT.get();
+        return window == null ? 0 : window.count;
+    }
+
+    /**
+     * 집계 구간 종료
+     *
+     * @return 종료된 구간(구간이 없었으면 빈 구간)
+     */
+    public static Window end() {
+        Window window = CURRENT.get();
+        CURRENT.remove();
+        return window == null ? new Window() : window;
+    }
+
+    /**
+     * 집계 구간 상태(한 스레드에서만 접근)
+     */
+    public static final class Window {
+        private int count;
+        private int budget = -1; // 미지정
+        private String endpoint;
+        private boolean rejected;
+
+        public int count() {
+            return count;
+        }
+
+        public int budget() {
+            return budget;
+        }
+
+        public String endpoint() {
+            return endpoint;
+        }
+
+        public boolean exceeded() {
+            return budget >= 0 && count > budget;
+        }
+    }
+}
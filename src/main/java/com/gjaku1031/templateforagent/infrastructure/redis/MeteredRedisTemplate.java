@@ -0,0 +1,110 @@
+package com.gjaku1031.templateforagent.infrastructure.redis;
+
+import com.gjaku1031.templateforagent.infrastructure.diagnostics.jfr.RedisCallEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Meter.MeterProvider;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisTemplate;
+
+/**
+ * 명령별 지연을 기록하는 RedisTemplate
+ * <p>템플릿이 콜백에 넘기기 직전의 커넥션을 프록시로 감싸, 키를 받는 명령과 Lua 스크립트 실행마다
+ * {@code redis.command{command, prefix}} 타이머를 기록. prefix는 키의 첫 {@code :} 앞부분
+ * ({@code blacklist:<jti>} → {@code blacklist})이라 태그 수가 키 종류 수로 제한됨.</p>
+ * <p>{@code stringCommands()}처럼 명령 그룹을 돌려주는 메서드는 같은 방식으로 감싼 그룹을 반환.
+ * 키가 없는 명령(PING, SCAN 커서 열기 등)과 구독은 기록하지 않음.</p>
+ * <p>기록 대상 명령은 같은 태그로 {@link RedisCallEvent}(JFR)도 남김.</p>
+ */
+public class MeteredRedisTemplate<K, V> extends RedisTemplate<K, V> {
+
+    private static final int MAX_PREFIX_LENGTH = 32;
+
+    private final MeterProvider<Timer> timers;
+
+    public MeteredRedisTemplate(MeterRegistry meterRegistry) {
+        this.timers = Timer.builder("redis.command")
+                .description("Redis command latency by command and key prefix")
+                .withRegistry(meterRegistry);
+    }
+
+    @Override
+    protected RedisConnection preProcessConnection(RedisConnection connection, boolean existingConnection) {
+        return wrap(connection, RedisConnection.class);
+    }
+
+    private <T> T wrap(T target, Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, new Timing(target)));
+    }
+
+    private final class Timing implements InvocationHandler {
+
+        private final Object target;
+
+        Timing(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String prefix = keyPrefix(method, args);
+            Object result = prefix == null ? call(method, args) : timed(method, args, prefix);
+            return wrapCommands(method, result);
+        }
+
+        private Object timed(Method method, Object[] args, String prefix) throws Throwable {
+            RedisCallEvent event = new RedisCallEvent();
+            event.begin();
+            long start = System.nanoTime();
+            try {
+                return call(method, args);
+            } finally {
+                timers.withTags("command", method.getName(), "prefix", prefix)
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                event.complete(method.getName(), prefix);
+            }
+        }
+
+        private Object call(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private Object wrapCommands(Method method, Object result) {
+            Class<?> type = method.getReturnType();
+            if (result == null || !type.isInterface() || !type.getSimpleName().endsWith("Commands")) return result;
+            return wrap(result, (Class<Object>) type);
+        }
+    }
+
+    /**
+     * 기록 대상이면 키 prefix, 아니면 null
+     * <p>EVAL/EVALSHA는 {@code (script, returnType, numKeys, keysAndArgs...)} 중 첫 키 기준.</p>
+     */
+    private static String keyPrefix(Method method, Object[] args) {
+        if (args == null || args.length == 0) return null;
+        if (method.getName().startsWith("eval")) {
+            if (args.length < 4 || !(args[2] instanceof Integer numKeys) || !(args[3] instanceof byte[][] keysAndArgs)) return null;
+            return numKeys > 0 && keysAndArgs.length > 0 ? prefixOf(keysAndArgs[0]) : "none";
+        }
+        return args[0] instanceof byte[] key ? prefixOf(key) : null;
+    }
+
+    private static String prefixOf(byte[] key) {
+        int limit = Math.min(key.length, MAX_PREFIX_LENGTH);
+        for (int i = 0; i < limit; i++) {
+            if (key[i] == ':') return new String(key, 0, i, StandardCharsets.US_ASCII);
+        }
+        return "none";
+    }
+}
@@ -0,0 +1,111 @@
+package com.gjaku1031.templateforagent.infrastructure.search;
+
+import static com.gjaku1031.templateforagent.domain.board.QBoard.board;
+
+import com.gjaku1031.templateforagent.domain.board.BoardTextMatch;
+import com.gjaku1031.templateforagent.domain.board.BoardTextSearch;
+import com.gjaku1031.templateforagent.domain.board.SearchSnippets;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.StringExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.List;
+import java.util.Locale;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * LIKE 기반 게시글 텍스트 검색(기본값, {@code app.board.search.engine=like})
+ * <p>{@code lower(title|content) like %kw%} 조건의 이식 가능한 구현으로 H2 등 인프로세스 DB에서도 동작.
+ * PostgreSQL에서는 {@code db/board-search.sql}의 pg_trgm GIN 인덱스가 있으면 순차 스캔 없이 처리됨.
+ * 관련도 점수가 없으므로 결과는 최신순.</p>
+ * <p>본문 전체를 읽지 않도록 하이라이트용 본문은 SQL에서 검색어 주변 구간만 잘라 조회.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "app.board.search.engine", havingValue = "like", matchIfMissing = true)
+@RequiredArgsConstructor
+public class LikeBoardTextSearch implements BoardTextSearch {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<BoardTextMatch> rank(String keyword, long offset, int limit) {
+        Snippet snippet = new Snippet(keyword);
+        return snippet.toMatches(queryFactory
+                .select(board.id, snippet.position, snippet.window, board.content.length())
+                .from(board)
+                .where(containsKeyword(keyword))
+                .orderBy(board.id.desc())
+                .offset(offset)
+                .limit(limit)
+                .fetch());
+    }
+
+    @Override
+    public List<BoardTextMatch> matchBefore(String keyword, Long cursor, int limit) {
+        Snippet snippet = new Snippet(keyword);
+        return snippet.toMatches(queryFactory
+                .select(board.id, snippet.position, snippet.window, board.content.length())
+                .from(board)
+                .where(containsKeyword(keyword), cursor == null ? null : board.id.lt(cursor))
+                .orderBy(board.id.desc())
+                .limit(limit)
+                .fetch());
+    }
+
+    @Override
+    public long count(String keyword) {
+        Long count = queryFactory
+                .select(board.count())
+                .from(board)
+                .where(containsKeyword(keyword))
+                .fetchOne();
+        return count == null ? 0 : count;
+    }
+
+    private BooleanExpression containsKeyword(String keyword) {
+        return board.title.containsIgnoreCase(keyword)
+                .or(board.content.containsIgnoreCase(keyword));
+    }
+
+    /**
+     * 검색어 주변 본문 구간 조회식
+     * <p>{@code locate}로 찾은 위치(1부터, 없으면 0)에서 앞쪽 여백만큼 당긴 지점부터
+     * {@link SearchSnippets#windowLength(String)}자만 잘라 오며, 본문에 없으면(제목 일치) 앞부분 구간.</p>
+     */
+    private static final class Snippet {
+
+        private final String keyword;
+        private final NumberExpression<Integer> position;
+        private final StringExpression window;
+
+        Snippet(String keyword) {
+            int radius = SearchSnippets.radius();
+            this.keyword = keyword;
+            this.position = board.content.lower().locate(keyword.toLowerCase(Locale.ROOT));
+            NumberExpression<Integer> from = new CaseBuilder()
+                    .when(position.gt(radius)).then(position.subtract(radius + 1))
+                    .otherwise(0);
+            this.window = board.content.substring(from, from.add(SearchSnippets.windowLength(keyword)));
+        }
+
+        List<BoardTextMatch> toMatches(List<Tuple> rows) {
+            return rows.stream()
+                    .map(t -> new BoardTextMatch(t.get(board.id), 0, highlight(t)))
+                    .toList();
+        }
+
+        private String highlight(Tuple t) {
+            String text = t.get(window);
+            if (text == null) return null;
+            Integer at = t.get(position);
+            Integer length = t.get(board.content.length());
+            int from = at == null || at <= SearchSnippets.radius() ? 0 : at - SearchSnippets.radius() - 1;
+            boolean truncatedAfter = length != null && from + text.length() < length;
+            return SearchSnippets.highlight(text, keyword, from > 0, truncatedAfter);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.gjaku1031.templateforagent.infrastructure.search;
+
+import com.gjaku1031.templateforagent.domain.board.BoardTextMatch;
+import com.gjaku1031.templateforagent.domain.board.BoardTextSearch;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * PostgreSQL 전문 검색(tsvector/GIN) 기반 게시글 검색({@code app.board.search.engine=postgres})
+ * <p>{@code to_tsvector('simple', title || ' ' || content)} 표현식 GIN 인덱스
+ * ({@code db/board-search.sql})를 사용해 {@code websearch_to_tsquery} 문법(공백=AND, {@code or}, {@code -제외}, "구문")으로 검색.
+ * 관련도는 {@code ts_rank_cd}, 하이라이트는 페이지 결과에 한해 {@code ts_headline}으로 생성.</p>
+ * <p><b>설계 메모</b></p>
+ * <ul>
+ *   <li>형태소 사전이 없는 한국어 본문을 고려해 언어 독립적인 {@code simple} 설정 사용</li>
+ *   <li>인덱스 표현식과 쿼리 표현식이 정확히 같아야 인덱스를 타므로 {@link #DOCUMENT} 상수로 공유</li>
+ * </ul>
+ */
+@Component
+@ConditionalOnProperty(name = "app.board.search.engine", havingValue = "postgres")
+@RequiredArgsConstructor
+public class PostgresBoardTextSearch implements BoardTextSearch {
+
+    static final String DOCUMENT = "to_tsvector('simple', b.title || ' ' || b.content)";
+    private static final String QUERY = "websearch_to_tsquery('simple', :keyword)";
+    // 본문을 HTML 이스케이프한 뒤 하이라이트 마커 삽입
+    private static final String HEADLINE = "ts_headline('simple', "
+            + "replace(replace(replace(m.content, '&', '&amp;'), '<', '&lt;'), '>', '&gt;'), q, "
+            + "'StartSel=<mark>, StopSel=</mark>, MaxWords=30, MinWords=10, MaxFragments=2')";
+
+    private static final String RANK_SQL = """
+            SELECT m.id, m.score, %s
+            FROM (SELECT b.id, b.content, ts_rank_cd(%s, q) AS score
+                  FROM board b, %s q
+                  WHERE %s @@ q
+                  ORDER BY score DESC, b.id DESC
+                  OFFSET :offset LIMIT :limit) m, %s q
+            ORDER BY m.score DESC, m.id DESC
+            """.formatted(HEADLINE, DOCUMENT, QUERY, DOCUMENT, QUERY);
+
+    private static final String BEFORE_SQL = """
+            SELECT m.id, 0, %s
+            FROM (SELECT b.id, b.content
+                  FROM board b, %s q
+                  WHERE %s @@ q AND b.id < :cursor
+                  ORDER BY b.id DESC
+                  LIMIT :limit) m, %s q
+            ORDER BY m.id DESC
+            """.formatted(HEADLINE, QUERY, DOCUMENT, QUERY);
+
+    private static final String COUNT_SQL = "SELECT count(*) FROM board b WHERE %s @@ %s".formatted(DOCUMENT, QUERY);
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<BoardTextMatch> rank(String keyword, long offset, int limit) {
+        return toMatches(entityManager.createNativeQuery(RANK_SQL)
+                .setParameter("keyword", keyword)
+                .setParameter("offset", offset)
+                .setParameter("limit", limit)
+                .getResultList());
+    }
+
+    @Override
+    public List<BoardTextMatch> matchBefore(String keyword, Long cursor, int limit) {
+        return toMatches(entityManager.createNativeQuery(BEFORE_SQL)
+                .setParameter("keyword", keyword)
+                .setParameter("cursor", cursor == null ? Long.MAX_VALUE : cursor)
+                .setParameter("limit", limit)
+                .getResultList());
+    }
+
+    @Override
+    public long count(String keyword) {
+        Object count = entityManager.createNativeQuery(COUNT_SQL)
+                .setParameter("keyword", keyword)
+                .getSingleResult();
+        return ((Number) count).longValue();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<BoardTextMatch> toMatches(List<?> rows) {
+        return ((List<Object[]>) rows).stream()
+                .map(r -> new BoardTextMatch(((Number) r[0]).longValue(), ((Number) r[1]).doubleValue(), (String) r[2]))
+                .toList();
+    }
+}
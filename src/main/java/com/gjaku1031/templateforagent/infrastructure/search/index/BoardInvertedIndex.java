@@ -0,0 +1,247 @@
+package com.gjaku1031.templateforagent.infrastructure.search.index;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 제목/본문 역색인
+ * <p>색인어 → {@link LongPostings}(게시글 id 오름차순) 사전과, 갱신/삭제 시 기존 색인어를 지우기 위한
+ * 게시글 id → 색인어 정방향 색인으로 구성. 읽기/쓰기는 {@link ReentrantReadWriteLock}으로 보호.</p>
+ * <p><b>질의 문법</b></p>
+ * <ul>
+ *   <li>공백으로 구분한 단어는 AND</li>
+ *   <li>{@code OR} 또는 {@code |}로 구분한 절은 OR</li>
+ *   <li>결과는 최신순(id 내림차순) 상위 k건</li>
+ * </ul>
+ */
+public final class BoardInvertedIndex {
+
+    private static final int SNAPSHOT_MAGIC = 0x42494458; // "BIDX"
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private final Map<String, LongPostings> postings = new HashMap<>();
+    private final Map<Long, String[]> documents = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 게시글 색인 추가 또는 교체
+     */
+    public void upsert(long id, String title, String content) {
+        Set<String> terms = BoardTokenizer.terms(title + " " + content);
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(id);
+            String[] stored = new String[terms.size()];
+            int i = 0;
+            for (String term : terms) {
+                postings.computeIfAbsent(term, t -> new LongPostings()).add(id);
+                stored[i++] = term;
+            }
+            documents.put(id, stored);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 게시글 중 정렬된 {@code liveIds}에 없는 id(삭제 정리 후보)
+     */
+    public List<Long> idsNotIn(long[] liveIds, int liveCount) {
+        lock.readLock().lock();
+        try {
+            return documents.keySet().stream()
+                    .filter(id -> Arrays.binarySearch(liveIds, 0, liveCount, id) < 0)
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * {@code cursor} 미만 id 중 질의와 일치하는 최신 게시글 id 최대 {@code limit}건(내림차순)
+     */
+    public List<Long> searchBefore(String query, long cursor, int limit) {
+        List<Set<String>> clauses = parse(query);
+        lock.readLock().lock();
+        try {
+            if (clauses.size() == 1) {
+                List<Long> out = new ArrayList<>(Math.min(limit, 64));
+                matchAll(clauses.get(0), cursor, limit, out);
+                return out;
+            }
+            TreeSet<Long> union = new TreeSet<>(Comparator.reverseOrder());
+            for (Set<String> clause : clauses) {
+                List<Long> out = new ArrayList<>();
+                matchAll(clause, cursor, limit, out);
+                union.addAll(out);
+            }
+            return union.stream().limit(limit).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long count(String query) {
+        List<Set<String>> clauses = parse(query);
+        lock.readLock().lock();
+        try {
+            if (clauses.size() == 1) {
+                return matchAll(clauses.get(0), Long.MAX_VALUE, Integer.MAX_VALUE, null);
+            }
+            TreeSet<Long> union = new TreeSet<>();
+            for (Set<String> clause : clauses) {
+                List<Long> out = new ArrayList<>();
+                matchAll(clause, Long.MAX_VALUE, Integer.MAX_VALUE, out);
+                union.addAll(out);
+            }
+            return union.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 스냅샷 파일 기록(임시 파일에 쓴 뒤 원자적으로 교체)
+     *
+     * @param takenAt 스냅샷 기준 시각(epoch millis), 로딩 후 따라잡기 기준으로 사용
+     */
+    public void writeSnapshot(Path path, long takenAt) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        Path tmp = path.resolveSibling(path.getFileName() + ".tmp");
+        lock.readLock().lock();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeLong(takenAt);
+            out.writeInt(postings.size());
+            for (Map.Entry<String, LongPostings> entry : postings.entrySet()) {
+                out.writeUTF(entry.getKey());
+                entry.getValue().writeTo(out);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 스냅샷 파일로 색인 복원(기존 내용은 교체)
+     *
+     * @return 스냅샷 기준 시각(epoch millis)
+     */
+    public long readSnapshot(Path path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                throw new IOException("Unsupported board index snapshot: " + path);
+            }
+            long takenAt = in.readLong();
+            int termCount = in.readInt();
+            Map<String, LongPostings> loaded = new HashMap<>(termCount * 2);
+            Map<Long, List<String>> forward = new HashMap<>();
+            for (int t = 0; t < termCount; t++) {
+                String term = in.readUTF();
+                LongPostings list = LongPostings.readFrom(in);
+                loaded.put(term, list);
+                for (int i = 0; i < list.size(); i++) {
+                    forward.computeIfAbsent(list.get(i), id -> new ArrayList<>(16)).add(term);
+                }
+            }
+            lock.writeLock().lock();
+            try {
+                postings.clear();
+                postings.putAll(loaded);
+                documents.clear();
+                forward.forEach((id, terms) -> documents.put(id, terms.toArray(String[]::new)));
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return takenAt;
+        }
+    }
+
+    /**
+     * AND 절 평가: 가장 짧은 포스팅 리스트를 역순으로 훑으며 나머지 리스트에 이진 탐색
+     *
+     * @param out null이면 건수만 계산
+     * @return 일치 건수
+     */
+    private int matchAll(Set<String> terms, long cursor, int limit, List<Long> out) {
+        if (terms.isEmpty()) return 0;
+        List<LongPostings> lists = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            LongPostings list = postings.get(term);
+            if (list == null) return 0;
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(LongPostings::size));
+        LongPostings driver = lists.get(0);
+        int matched = 0;
+        for (int i = driver.lastIndexBelow(cursor); i >= 0 && matched < limit; i--) {
+            long id = driver.get(i);
+            boolean all = true;
+            for (int l = 1; l < lists.size() && all; l++) {
+                all = lists.get(l).contains(id);
+            }
+            if (all) {
+                matched++;
+                if (out != null) out.add(id);
+            }
+        }
+        return matched;
+    }
+
+    private List<Set<String>> parse(String query) {
+        List<Set<String>> clauses = new ArrayList<>();
+        for (String clause : query.split("\\s+OR\\s+|\\|")) {
+            Set<String> terms = BoardTokenizer.terms(clause);
+            if (!terms.isEmpty()) clauses.add(terms);
+        }
+        if (clauses.isEmpty()) clauses.add(Set.of());
+        return clauses;
+    }
+
+    private void removeUnlocked(long id) {
+        String[] terms = documents.remove(id);
+        if (terms == null) return;
+        for (String term : terms) {
+            LongPostings list = postings.get(term);
+            if (list == null) continue;
+            list.remove(id);
+            if (list.size() == 0) postings.remove(term);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.gjaku1031.templateforagent.infrastructure.search.index;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 색인/질의 공용 토크나이저
+ * <p>소문자화 후 문자/숫자 연속 구간을 단어로 분리. 한글·한자·가나 구간은 형태소 분석 대신
+ * 문자 바이그램으로 분해해 조사가 붙은 어절("게시글을")에서도 부분 일치("게시글")가 가능하도록 함.</p>
+ */
+final class BoardTokenizer {
+
+    private BoardTokenizer() {
+    }
+
+    /**
+     * 중복 제거된 색인어 집합(등장 순서 유지)
+     */
+    static Set<String> terms(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (text == null) return terms;
+        String lower = text.toLowerCase(Locale.ROOT);
+        StringBuilder run = new StringBuilder();
+        boolean runIsCjk = false;
+        for (int i = 0; i < lower.length(); ) {
+            int cp = lower.codePointAt(i);
+            i += Character.charCount(cp);
+            if (!Character.isLetterOrDigit(cp)) {
+                flush(run, runIsCjk, terms);
+                continue;
+            }
+            boolean cjk = isCjk(cp);
+            if (run.length() > 0 && cjk != runIsCjk) flush(run, runIsCjk, terms);
+            runIsCjk = cjk;
+            run.appendCodePoint(cp);
+        }
+        flush(run, runIsCjk, terms);
+        return terms;
+    }
+
+    private static void flush(StringBuilder run, boolean cjk, Set<String> terms) {
+        if (run.length() == 0) return;
+        String word = run.toString();
+        run.setLength(0);
+        if (!cjk || word.codePointCount(0, word.length()) == 1) {
+            terms.add(word);
+            return;
+        }
+        int first = 0;
+        int second = word.offsetByCodePoints(0, 1);
+        while (second < word.length()) {
+            int end = word.offsetByCodePoints(second, 1);
+            terms.add(word.substring(first, end));
+            first = second;
+            second = end;
+        }
+    }
+
+    private static boolean isCjk(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
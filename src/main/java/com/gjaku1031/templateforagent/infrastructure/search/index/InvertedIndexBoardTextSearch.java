@@ -0,0 +1,248 @@
+package com.gjaku1031.templateforagent.infrastructure.search.index;
+
+import static com.gjaku1031.templateforagent.domain.board.QBoard.board;
+
+import com.gjaku1031.templateforagent.domain.board.BoardChangedEvent;
+import com.gjaku1031.templateforagent.domain.board.BoardTextMatch;
+import com.gjaku1031.templateforagent.domain.board.BoardTextSearch;
+import com.gjaku1031.templateforagent.infrastructure.messaging.BoardChangeSubscriber;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 인프로세스 역색인 기반 게시글 텍스트 검색({@code app.board.search.engine=index})
+ * <p>기동 시 게시글을 id 키셋 배치로 스트리밍 스캔해 {@link BoardInvertedIndex}를 구성하고,
+ * 이후 {@link BoardChangedEvent}(로컬 커밋/다른 노드 브로드캐스트)로 증분 갱신.
+ * 검색어 평가는 DB 없이 메모리에서 끝나며 DB에는 결과 id의 PK 조회만 남음.</p>
+ * <p><b>스냅샷</b></p>
+ * <ul>
+ *   <li>{@code app.board.search.index.snapshot-path} 지정 시 주기적으로/종료 시 색인을 파일로 기록</li>
+ *   <li>기동 시 스냅샷이 있으면 이를 읽고, 삭제된 id 정리 + 스냅샷 이후 수정분만 재색인</li>
+ * </ul>
+ * <p><b>변경 메시지 유실 보정</b></p>
+ * <ul>
+ *   <li>{@code app.board.search.index.catch-up-interval}(기본 1분)마다 직전 따라잡기 이후 수정분({@code updatedAt}) 재색인</li>
+ *   <li>{@code app.board.search.index.reconcile-interval}(기본 1시간)마다 id만 스캔해 삭제분 정리</li>
+ * </ul>
+ * <p>관련도 점수는 없으며 결과는 최신순(id 내림차순).</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.board.search.engine", havingValue = "index")
+public class InvertedIndexBoardTextSearch implements BoardTextSearch, BoardChangeSubscriber, SmartInitializingSingleton {
+
+    private static final int SCAN_BATCH_SIZE = 1_000;
+    // 트랜잭션 커밋 지연/노드 간 시계 오차를 흡수하기 위한 따라잡기 여유 구간
+    private static final long CATCH_UP_SLACK_MILLIS = 60_000;
+
+    private final JPAQueryFactory queryFactory;
+    private final TransactionTemplate readOnlyTx;
+    private final Path snapshotPath;
+    private final BoardInvertedIndex index = new BoardInvertedIndex();
+
+    private volatile boolean ready;
+    private volatile long caughtUpTo;
+
+    public InvertedIndexBoardTextSearch(JPAQueryFactory queryFactory,
+                                        PlatformTransactionManager transactionManager,
+                                        @Value("${app.board.search.index.snapshot-path:}") String snapshotPath) {
+        this.queryFactory = queryFactory;
+        // AFTER_COMMIT 콜백에서도 호출되므로 끝난 트랜잭션에 참여하지 않도록 항상 새 트랜잭션
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.readOnlyTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.snapshotPath = snapshotPath.isBlank() ? null : Path.of(snapshotPath);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long started = System.currentTimeMillis();
+        caughtUpTo = started;
+        Long takenAt = loadSnapshot();
+        if (takenAt == null) {
+            scan(null);
+        } else {
+            retainLiveIds();
+            scan(modifiedSince(takenAt));
+        }
+        ready = true;
+        log.info("Board index ready: {} boards in {} ms (snapshot={})",
+                index.size(), System.currentTimeMillis() - started, takenAt != null);
+    }
+
+    @Override
+    public List<BoardTextMatch> rank(String keyword, long offset, int limit) {
+        List<Long> ids = index.searchBefore(keyword, Long.MAX_VALUE, (int) Math.min(offset + limit, Integer.MAX_VALUE));
+        return ids.stream().skip(offset).map(this::toMatch).toList();
+    }
+
+    @Override
+    public List<BoardTextMatch> matchBefore(String keyword, Long cursor, int limit) {
+        return index.searchBefore(keyword, cursor == null ? Long.MAX_VALUE : cursor, limit).stream()
+                .map(this::toMatch)
+                .toList();
+    }
+
+    @Override
+    public long count(String keyword) {
+        return index.count(keyword);
+    }
+
+    @Override
+    public void onBoardChanged(BoardChangedEvent event) {
+        if (event.kind() == BoardChangedEvent.Kind.DELETED) {
+            event.boardIds().forEach(index::remove);
+            return;
+        }
+        readOnlyTx.executeWithoutResult(status -> queryFactory
+                .select(board.id, board.title, board.content)
+                .from(board)
+                .where(board.id.in(event.boardIds()))
+                .fetch()
+                .forEach(this::upsert));
+    }
+
+    /**
+     * 직전 따라잡기 시작 시각(여유 구간 포함) 이후 수정된 게시글 재색인
+     */
+    @Scheduled(fixedDelayString = "${app.board.search.index.catch-up-interval:PT1M}",
+            initialDelayString = "${app.board.search.index.catch-up-interval:PT1M}")
+    public void catchUp() {
+        if (!ready) return;
+        long started = System.currentTimeMillis();
+        scan(modifiedSince(caughtUpTo));
+        caughtUpTo = started;
+    }
+
+    @Scheduled(fixedDelayString = "${app.board.search.index.reconcile-interval:PT1H}",
+            initialDelayString = "${app.board.search.index.reconcile-interval:PT1H}")
+    public void reconcileDeletions() {
+        if (!ready) return;
+        retainLiveIds();
+    }
+
+    @Scheduled(fixedDelayString = "${app.board.search.index.snapshot-interval:PT10M}",
+            initialDelayString = "${app.board.search.index.snapshot-interval:PT10M}")
+    public void snapshot() {
+        if (snapshotPath == null || !ready) return;
+        long takenAt = System.currentTimeMillis();
+        try {
+            index.writeSnapshot(snapshotPath, takenAt);
+        } catch (IOException e) {
+            log.warn("Failed to write board index snapshot to {}", snapshotPath, e);
+        }
+    }
+
+    @PreDestroy
+    public void snapshotOnShutdown() {
+        snapshot();
+    }
+
+    private Long loadSnapshot() {
+        if (snapshotPath == null || !Files.isReadable(snapshotPath)) return null;
+        try {
+            return index.readSnapshot(snapshotPath);
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable board index snapshot {}", snapshotPath, e);
+            return null;
+        }
+    }
+
+    /**
+     * id 키셋 배치로 게시글을 스캔해 색인
+     *
+     * @param modifiedSince null이면 전체, 아니면 해당 시각 이후 수정분만
+     */
+    private void scan(LocalDateTime modifiedSince) {
+        long cursor = 0;
+        while (true) {
+            long after = cursor;
+            List<Tuple> rows = readOnlyTx.execute(status -> queryFactory
+                    .select(board.id, board.title, board.content)
+                    .from(board)
+                    .where(board.id.gt(after), modifiedSince == null ? null : board.updatedAt.goe(modifiedSince))
+                    .orderBy(board.id.asc())
+                    .limit(SCAN_BATCH_SIZE)
+                    .fetch());
+            if (rows == null || rows.isEmpty()) return;
+            rows.forEach(this::upsert);
+            cursor = rows.get(rows.size() - 1).get(board.id);
+            if (rows.size() < SCAN_BATCH_SIZE) return;
+        }
+    }
+
+    private static LocalDateTime modifiedSince(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis - CATCH_UP_SLACK_MILLIS), ZoneId.systemDefault());
+    }
+
+    /**
+     * 삭제된 게시글 정리(현재 존재하는 id만 키셋으로 스캔)
+     * <p>스캔 도중 다른 노드에서 생성·색인된 게시글을 지우지 않도록, 후보 id는 DB에 다시 확인한 뒤 제거.</p>
+     */
+    private void retainLiveIds() {
+        long[] live = new long[1024];
+        int count = 0;
+        long cursor = 0;
+        while (true) {
+            long after = cursor;
+            List<Long> ids = readOnlyTx.execute(status -> queryFactory
+                    .select(board.id)
+                    .from(board)
+                    .where(board.id.gt(after))
+                    .orderBy(board.id.asc())
+                    .limit(SCAN_BATCH_SIZE * 10L)
+                    .fetch());
+            if (ids == null || ids.isEmpty()) break;
+            for (Long id : ids) {
+                if (count == live.length) live = Arrays.copyOf(live, count * 2);
+                live[count++] = id;
+            }
+            cursor = ids.get(ids.size() - 1);
+            if (ids.size() < SCAN_BATCH_SIZE * 10) break;
+        }
+        List<Long> candidates = index.idsNotIn(live, count);
+        for (int from = 0; from < candidates.size(); from += SCAN_BATCH_SIZE) {
+            List<Long> chunk = candidates.subList(from, Math.min(from + SCAN_BATCH_SIZE, candidates.size()));
+            Set<Long> existing = readOnlyTx.execute(status -> new HashSet<>(queryFactory
+                    .select(board.id)
+                    .from(board)
+                    .where(board.id.in(chunk))
+                    .fetch()));
+            if (existing == null) continue;
+            chunk.stream()
+                    .filter(id -> !existing.contains(id))
+                    .forEach(index::remove);
+        }
+    }
+
+    private void upsert(Tuple row) {
+        index.upsert(row.get(board.id), row.get(board.title), row.get(board.content));
+    }
+
+    /**
+     * 색인은 본문을 보관하지 않으므로 하이라이트는 게시글 로딩 후 생성(null 반환)
+     */
+    private BoardTextMatch toMatch(Long id) {
+        return new BoardTextMatch(id, 0, null);
+    }
+}
@@ -0,0 +1,116 @@
+package com.gjaku1031.templateforagent.infrastructure.search.index;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * 정렬된 long 배열 기반 포스팅 리스트
+ * <p>게시글 id를 오름차순 원시 배열로 보관해 박싱 없이 이진 탐색/역순 순회. 신규 게시글은 id가 가장 크므로
+ * 대부분의 추가는 배열 끝에 붙는 O(1) 연산. 스냅샷에는 델타 + varint로 압축해 기록.</p>
+ * <p>동기화는 소유자({@link BoardInvertedIndex})가 담당.</p>
+ */
+final class LongPostings {
+
+    private long[] ids;
+    private int size;
+
+    LongPostings() {
+        this.ids = new long[4];
+    }
+
+    private LongPostings(long[] ids, int size) {
+        this.ids = ids;
+        this.size = size;
+    }
+
+    void add(long id) {
+        if (size == 0 || id > ids[size - 1]) {
+            ensureCapacity();
+            ids[size++] = id;
+            return;
+        }
+        int at = Arrays.binarySearch(ids, 0, size, id);
+        if (at >= 0) return;
+        int insert = -(at + 1);
+        ensureCapacity();
+        System.arraycopy(ids, insert, ids, insert + 1, size - insert);
+        ids[insert] = id;
+        size++;
+    }
+
+    boolean remove(long id) {
+        int at = Arrays.binarySearch(ids, 0, size, id);
+        if (at < 0) return false;
+        System.arraycopy(ids, at + 1, ids, at, size - at - 1);
+        size--;
+        return true;
+    }
+
+    boolean contains(long id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    long get(int index) {
+        return ids[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * {@code cursor}보다 작은 마지막 원소의 인덱스(없으면 -1)
+     */
+    int lastIndexBelow(long cursor) {
+        int at = Arrays.binarySearch(ids, 0, size, cursor);
+        return (at >= 0 ? at : -(at + 1)) - 1;
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeInt(size);
+        long previous = 0;
+        for (int i = 0; i < size; i++) {
+            writeVarLong(out, ids[i] - previous);
+            previous = ids[i];
+        }
+    }
+
+    static LongPostings readFrom(DataInput in) throws IOException {
+        int size = in.readInt();
+        long[] ids = new long[Math.max(size, 4)];
+        long previous = 0;
+        for (int i = 0; i < size; i++) {
+            previous += readVarLong(in);
+            ids[i] = previous;
+        }
+        return new LongPostings(ids, size);
+    }
+
+    private void ensureCapacity() {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length + (ids.length >> 1) + 1);
+        }
+    }
+
+    private static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
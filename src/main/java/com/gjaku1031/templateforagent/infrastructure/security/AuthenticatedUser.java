@@ -0,0 +1,40 @@
+package com.gjaku1031.templateforagent.infrastructure.security;
+
+import java.security.Principal;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+/**
+ * JWT 클레임으로 구성한 경량 인증 주체
+ * <p>요청마다 DB에서 {@code User}를 조회하지 않고 토큰의 uid/sub/role만으로 SecurityContext를 채움.
+ * 엔티티 전체가 필요한 엔드포인트만 서비스 계층에서 직접 조회.</p>
+ *
+ * @param id       사용자 식별자(uid 클레임)
+ * @param username 사용자명(sub)
+ * @param role     권한(role 클레임)
+ */
+public record AuthenticatedUser(Long id, String username, String role) implements Principal {
+
+    public static AuthenticatedUser from(CustomUserDetails details) {
+        return new AuthenticatedUser(
+                details.getUser().getId(),
+                details.getUsername(),
+                details.getAuthorities().iterator().next().getAuthority()
+        );
+    }
+
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority(role != null ? role : "ROLE_USER"));
+    }
+
+    public boolean isAdmin() {
+        return "ROLE_ADMIN".equals(role);
+    }
+
+    @Override
+    public String getName() {
+        return username;
+    }
+}
@@ -11,13 +11,13 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 /**
  * 애플리케이션 전용 UserDetails 구현
- * <p>SecurityContext에서 현재 로그인 사용자의 식별자/권한을 제공.</p>
+ * <p>로그인(AuthenticationManager) 시 DB 사용자를 감싸 식별자/비밀번호/권한을 제공.
+ * 토큰 인증 요청의 SecurityContext에는 {@link AuthenticatedUser}가 담김.</p>
  */
 @Getter
 @RequiredArgsConstructor
 public class CustomUserDetails implements UserDetails {
 
-    // CurrentUserArgumentResolver가 리플렉션으로 접근하므로 필드명 'user' 유지
     private final User user;
 
     @Override
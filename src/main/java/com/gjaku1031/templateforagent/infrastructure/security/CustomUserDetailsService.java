@@ -4,17 +4,21 @@ import com.gjaku1031.templateforagent.domain.user.User;
 import com.gjaku1031.templateforagent.domain.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * 사용자 정보 로딩 서비스
- * <p>로그인 시 username으로 DB 사용자 조회 후 UserDetails로 래핑.</p>
+ * <p>로그인 시 username으로 DB 사용자 조회 후 UserDetails로 래핑.
+ * {@link UserDetailsPasswordService}로 등록되어 로그인 성공 시 저장된 해시의 비용이 현재 설정보다 낮으면
+ * 인증 제공자가 새 비용으로 재해시한 값을 저장.</p>
  */
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
 
@@ -24,5 +28,14 @@ public class CustomUserDetailsService implements UserDetailsService {
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + username));
         return new CustomUserDetails(user);
     }
+
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByUsername(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found: " + userDetails.getUsername()));
+        user.changePassword(newPassword);
+        return new CustomUserDetails(user);
+    }
 }
 
@@ -1,7 +1,8 @@
 package com.gjaku1031.templateforagent.infrastructure.security.evaluator;
 
-import com.gjaku1031.templateforagent.domain.board.BoardRepository;
-import com.gjaku1031.templateforagent.domain.user.UserRepository;
+import com.gjaku1031.templateforagent.infrastructure.cache.BoardOwnerCache;
+import com.gjaku1031.templateforagent.infrastructure.diagnostics.jfr.PermissionEvaluationEvent;
+import com.gjaku1031.templateforagent.infrastructure.security.AuthenticatedUser;
 import com.gjaku1031.templateforagent.infrastructure.security.CustomUserDetails;
 import java.io.Serializable;
 import lombok.RequiredArgsConstructor;
@@ -12,14 +13,15 @@ import org.springframework.stereotype.Component;
 
 /**
  * 도메인 권한 평가기
- * <p>관리자(ROLE_ADMIN) 즉시 허용, User: 자기 자신, Board: 소유자(작성자)만 허용.</p>
+ * <p>관리자(ROLE_ADMIN) 즉시 허용, User: 자기 자신, Board: 소유자(작성자)만 허용.
+ * Board 소유권은 {@link BoardOwnerCache}로 작성자 id만 확인(엔티티 미로딩).</p>
+ * <p>ID 기반 평가마다 {@link PermissionEvaluationEvent}(대상 타입, 권한, 결과)를 남김.</p>
  */
 @Component
 @RequiredArgsConstructor
 public class AppPermissionEvaluator implements PermissionEvaluator {
 
-    private final UserRepository userRepository;
-    private final BoardRepository boardRepository;
+    private final BoardOwnerCache boardOwnerCache;
 
     @Override
     public boolean hasPermission(Authentication authentication, Object targetDomainObject, Object permission) {
@@ -29,6 +31,14 @@ public class AppPermissionEvaluator implements PermissionEvaluator {
 
     @Override
     public boolean hasPermission(Authentication authentication, Serializable targetId, String targetType, Object permission) {
+        PermissionEvaluationEvent event = new PermissionEvaluationEvent();
+        event.begin();
+        boolean granted = evaluate(authentication, targetId, targetType);
+        event.complete(targetType, permission, granted);
+        return granted;
+    }
+
+    private boolean evaluate(Authentication authentication, Serializable targetId, String targetType) {
         if (authentication == null || !authentication.isAuthenticated()) return false;
         if (isAdmin(authentication)) return true;
         if (!(targetId instanceof Long id)) return false;
@@ -43,8 +53,8 @@ public class AppPermissionEvaluator implements PermissionEvaluator {
                 return id.equals(currentUserId);
             case "Board":
                 // 보드 작성자만 허용
-                return boardRepository.findById(id)
-                        .map(b -> b.getAuthor() != null && currentUserId.equals(b.getAuthor().getId()))
+                return boardOwnerCache.ownerOf(id)
+                        .map(currentUserId::equals)
                         .orElse(false);
             default:
                 return false;
@@ -60,19 +70,13 @@ public class AppPermissionEvaluator implements PermissionEvaluator {
 
     private Long extractUserId(Authentication authentication) {
         Object principal = authentication.getPrincipal();
+        if (principal instanceof AuthenticatedUser user) {
+            return user.id();
+        }
         if (principal instanceof CustomUserDetails cud) {
             return cud.getUser().getId();
         }
-        try {
-            var userField = principal.getClass().getDeclaredField("user");
-            userField.setAccessible(true);
-            Object user = userField.get(principal);
-            var idMethod = user.getClass().getMethod("getId");
-            Object id = idMethod.invoke(user);
-            return (id instanceof Long) ? (Long) id : null;
-        } catch (Exception ignore) {
-            return null;
-        }
+        return null;
     }
 }
 
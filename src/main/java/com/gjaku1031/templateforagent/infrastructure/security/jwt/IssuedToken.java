@@ -0,0 +1,13 @@
+package com.gjaku1031.templateforagent.infrastructure.security.jwt;
+
+import java.time.Instant;
+
+/**
+ * 새로 서명한 토큰과 세션 저장에 필요한 메타데이터
+ *
+ * @param value     서명된 토큰 문자열
+ * @param jti       토큰 식별자
+ * @param expiresAt 만료 시각
+ */
+public record IssuedToken(String value, String jti, Instant expiresAt) {
+}
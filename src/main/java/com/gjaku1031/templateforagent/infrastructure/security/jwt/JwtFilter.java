@@ -1,10 +1,11 @@
 package com.gjaku1031.templateforagent.infrastructure.security.jwt;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.springframework.lang.NonNull;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -12,10 +13,27 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
-@RequiredArgsConstructor
+/**
+ * 액세스 토큰 인증 필터
+ * <p>단계별 소요 시간을 {@code jwt.filter{stage}} 타이머로 기록
+ * (parse: 서명/클레임 검증, blacklist: 폐기 확인, epoch: 에폭 확인, user_load: 인증 주체 구성).</p>
+ */
 public class JwtFilter extends OncePerRequestFilter {
     private final JwtUtil jwtUtil;
+    private final Timer parseTimer;
+    private final Timer blacklistTimer;
+    private final Timer epochTimer;
+    private final Timer userLoadTimer;
+
+    public JwtFilter(JwtUtil jwtUtil, MeterRegistry meterRegistry) {
+        this.jwtUtil = jwtUtil;
+        this.parseTimer = stage(meterRegistry, "parse");
+        this.blacklistTimer = stage(meterRegistry, "blacklist");
+        this.epochTimer = stage(meterRegistry, "epoch");
+        this.userLoadTimer = stage(meterRegistry, "user_load");
+    }
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request,
@@ -23,9 +41,21 @@ public class JwtFilter extends OncePerRequestFilter {
                                     @NonNull FilterChain filterChain) throws ServletException, IOException {
         try {
             String token = resolveAccessToken(request);
-            if (token != null && jwtUtil.validateToken(token) && !jwtUtil.isBlacklisted(token) && jwtUtil.hasRole(token)) {
-                Authentication authentication = jwtUtil.getAuthentication(token);
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+            if (token != null) {
+                // 토큰은 요청당 한 번만 파싱/검증하고 이후 단계는 VerifiedToken을 재사용
+                long start = System.nanoTime();
+                VerifiedToken verified = jwtUtil.verify(token).orElse(null);
+                start = record(parseTimer, start);
+                if (verified != null && verified.hasRole()) {
+                    boolean revoked = jwtUtil.isBlacklisted(verified);
+                    start = record(blacklistTimer, start);
+                    if (!revoked && jwtUtil.isCurrentEpoch(verified)) {
+                        start = record(epochTimer, start);
+                        Authentication authentication = jwtUtil.getAuthentication(verified);
+                        record(userLoadTimer, start);
+                        SecurityContextHolder.getContext().setAuthentication(authentication);
+                    }
+                }
             }
         } catch (Exception ignored) {
             SecurityContextHolder.clearContext();
@@ -40,5 +70,17 @@ public class JwtFilter extends OncePerRequestFilter {
         }
         return null;
     }
-}
 
+    private static long record(Timer timer, long start) {
+        long now = System.nanoTime();
+        timer.record(now - start, TimeUnit.NANOSECONDS);
+        return now;
+    }
+
+    private static Timer stage(MeterRegistry registry, String stage) {
+        return Timer.builder("jwt.filter")
+                .description("JwtFilter time per stage")
+                .tag("stage", stage)
+                .register(registry);
+    }
+}
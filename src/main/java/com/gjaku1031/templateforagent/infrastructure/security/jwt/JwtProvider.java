@@ -1,25 +1,30 @@
 package com.gjaku1031.templateforagent.infrastructure.security.jwt;
 
 import com.gjaku1031.templateforagent.infrastructure.config.JwtConfig;
+import com.gjaku1031.templateforagent.infrastructure.security.jwt.epoch.TokenEpochStore;
+import com.gjaku1031.templateforagent.infrastructure.security.jwt.session.RefreshSessionStore;
 import io.jsonwebtoken.Jwts;
 import jakarta.annotation.PostConstruct;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.Date;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
+import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
 public class JwtProvider {
+    private static final Base64.Encoder ID_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
     private final JwtConfig jwtConfig;
-    private final RedisTemplate<String, String> redisTemplate;
+    private final TokenEpochStore tokenEpochStore;
     @Getter
     private SecretKey secretKey;
 
@@ -32,35 +37,46 @@ public class JwtProvider {
         );
     }
 
-    public String createAccessToken(String username, String role) {
-        Map<String, String> claims = Map.of("role", role);
-        return createToken(username, claims, jwtConfig.getAccessTokenExpiration());
+    public String createAccessToken(Long userId, String username, String role, String sid) {
+        // uid/role을 함께 실어 요청 시 DB 조회 없이 인증 주체를 구성할 수 있게 함
+        // ver(사용자 토큰 에폭)는 전체 로그아웃 시 일괄 무효화, sid는 로그아웃 시 세션 삭제에 사용
+        Map<String, Object> claims = Map.of("uid", userId, "role", role, "ver", tokenEpochStore.current(userId), "sid", sid);
+        return createToken(username, claims, jwtConfig.getAccessTokenExpiration()).value();
     }
 
-    public String createRefreshToken(String username) {
-        Map<String, String> claims = Map.of();
-        String refreshToken = createToken(username, claims, jwtConfig.getRefreshTokenExpiration());
-        redisTemplate.opsForValue().set(
-                "refresh:" + username,
-                refreshToken,
-                jwtConfig.getRefreshTokenExpiration(),
-                TimeUnit.MILLISECONDS
-        );
-        return refreshToken;
+    /**
+     * 리프레시 토큰 서명(세션 저장은 {@link RefreshSessionStore} 담당)
+     */
+    public IssuedToken createRefreshToken(Long userId, String username, String sid) {
+        Map<String, Object> claims = Map.of("uid", userId, "ver", tokenEpochStore.current(userId), "sid", sid);
+        return createToken(username, claims, jwtConfig.getRefreshTokenExpiration());
     }
 
-    private String createToken(String subject, Map<String, String> claims, long tokenExpiration) {
+    /**
+     * 세션/토큰 식별자 생성(128bit 난수, Base64url 22자)
+     */
+    public String newId() {
+        UUID uuid = UUID.randomUUID();
+        ByteBuffer buffer = ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits());
+        return ID_ENCODER.encodeToString(buffer.array());
+    }
+
+    private IssuedToken createToken(String subject, Map<String, ?> claims, long tokenExpiration) {
         Date now = new Date();
         Date expiration = new Date(now.getTime() + tokenExpiration);
-        return Jwts.builder()
+        // 회전 시 jti 비교로 재사용을 판정하므로 노드 간에도 겹치지 않는 난수 사용
+        String jti = newId();
+        String token = Jwts.builder()
                 .claims(claims)
                 .subject(subject)
-                .id(Long.toHexString(System.nanoTime()))
+                .id(jti)
                 .issuer(jwtConfig.getIssuer())
                 .issuedAt(now)
                 .expiration(expiration)
                 .signWith(secretKey)
                 .compact();
+        return new IssuedToken(token, jti, expiration.toInstant());
     }
 }
-
@@ -1,79 +1,141 @@
 package com.gjaku1031.templateforagent.infrastructure.security.jwt;
 
 import com.gjaku1031.templateforagent.infrastructure.config.JwtConfig;
+import com.gjaku1031.templateforagent.infrastructure.diagnostics.jfr.JwtVerificationEvent;
+import com.gjaku1031.templateforagent.infrastructure.security.AuthenticatedUser;
+import com.gjaku1031.templateforagent.infrastructure.security.CustomUserDetails;
+import com.gjaku1031.templateforagent.infrastructure.security.jwt.blacklist.TokenBlacklist;
+import com.gjaku1031.templateforagent.infrastructure.security.jwt.epoch.TokenEpochStore;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
+import java.time.Duration;
 import java.util.Date;
-import java.util.concurrent.TimeUnit;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
 public class JwtUtil {
     private final JwtConfig jwtConfig;
     private final UserDetailsService userDetailsService;
-    private final RedisTemplate<String, String> redisTemplate;
     private final JwtProvider jwtProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenBlacklist tokenBlacklist;
+    private final TokenEpochStore tokenEpochStore;
 
-    private SecretKey getSecretKey() { return jwtProvider.getSecretKey(); }
+    // JwtParser는 불변/스레드 안전하므로 한 번만 생성해 재사용
+    private JwtParser parser;
 
-    public boolean validateToken(String token) {
+    // uid 클레임이 없는 이전 발급 토큰용 username → userId(이전 토큰은 액세스 토큰 수명 안에 사라지므로 그만큼만 보관)
+    private Cache<String, Long> legacyUserIds;
+
+    @PostConstruct
+    public void init() {
+        this.parser = Jwts.parser().verifyWith(jwtProvider.getSecretKey()).build();
+        this.legacyUserIds = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofMillis(jwtConfig.getAccessTokenExpiration()))
+                .build();
+    }
+
+    /**
+     * 토큰을 한 번 검증해 {@link VerifiedToken}으로 반환
+     * <p>캐시 적중 시 서명 검증을 생략. 서명/만료/issuer 중 하나라도 실패하면 빈 값.
+     * 검증마다 {@link JwtVerificationEvent}를 남김(JFR 기록 중일 때만 커밋).</p>
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        JwtVerificationEvent event = new JwtVerificationEvent();
+        event.begin();
+        VerifiedToken cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            event.complete(true, true);
+            return Optional.of(cached);
+        }
+        Optional<VerifiedToken> verified = parse(token);
+        event.complete(false, verified.isPresent());
+        return verified;
+    }
+
+    private Optional<VerifiedToken> parse(String token) {
         try {
-            Claims claims = getClaims(token);
-            if (claims.getExpiration().before(new Date())) return false;
-            return jwtConfig.getIssuer().equals(claims.getIssuer());
-        } catch (ExpiredJwtException e) {
-            return false;
-        } catch (JwtException e) {
-            return false;
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            if (!jwtConfig.getIssuer().equals(claims.getIssuer())) return Optional.empty();
+            VerifiedToken verified = VerifiedToken.from(claims);
+            verifiedTokenCache.put(token, verified);
+            return Optional.of(verified);
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
         }
     }
 
+    public boolean validateToken(String token) {
+        return verify(token).isPresent();
+    }
+
     public String getUsername(String token) { return getClaims(token).getSubject(); }
     public boolean hasRole(String token) { return getClaims(token).get("role") != null; }
     public String getRole(String token) { Object r = getClaims(token).get("role"); return r == null ? null : r.toString(); }
-    private String getJti(String token) { return getClaims(token).getId(); }
 
     private Claims getClaims(String token) {
+        VerifiedToken cached = verifiedTokenCache.get(token);
+        if (cached != null) return cached.claims();
         try {
-            return Jwts.parser().verifyWith(getSecretKey()).build().parseSignedClaims(token).getPayload();
+            return parser.parseSignedClaims(token).getPayload();
         } catch (ExpiredJwtException e) { return e.getClaims(); }
     }
 
-    public Authentication getAuthentication(String token) {
-        String username = getUsername(token);
-        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    /**
+     * 검증된 토큰으로 {@link AuthenticatedUser} 기반 Authentication 생성
+     * <p>uid 클레임이 있으면 DB 조회 없이 클레임만으로 구성하고,
+     * uid가 없는 이전 발급 토큰만 {@link UserDetailsService}로 한 번 조회.</p>
+     */
+    public Authentication getAuthentication(VerifiedToken verified) {
+        AuthenticatedUser principal = verified.userId() != null
+                ? new AuthenticatedUser(verified.userId(), verified.subject(), verified.role())
+                : AuthenticatedUser.from((CustomUserDetails) userDetailsService.loadUserByUsername(verified.subject()));
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
     }
 
     public void addBlacklist(String accessToken) {
-        redisTemplate.opsForValue().set(
-                "blacklist:" + getJti(accessToken),
-                "true",
-                jwtConfig.getAccessTokenExpiration(),
-                TimeUnit.MILLISECONDS
-        );
+        Claims claims = getClaims(accessToken);
+        tokenBlacklist.revoke(claims.getId(), claims.getExpiration().toInstant());
     }
 
     public boolean isBlacklisted(String token) {
-        return Boolean.TRUE.equals(redisTemplate.hasKey("blacklist:" + getJti(token)));
+        Claims claims = getClaims(token);
+        return tokenBlacklist.isRevoked(claims.getId(), claims.getExpiration().toInstant());
     }
 
-    public void deleteRefreshToken(String accessToken) { redisTemplate.delete("refresh:" + getUsername(accessToken)); }
+    /**
+     * 블랙리스트 여부 확인(대부분 로컬 Bloom 필터에서 판정, 가능성 있을 때만 Redis 조회)
+     */
+    public boolean isBlacklisted(VerifiedToken verified) {
+        return tokenBlacklist.isRevoked(verified.jti(), verified.expiresAt());
+    }
+
+    /**
+     * 토큰의 에폭(ver)이 사용자 현재 에폭 이상인지 확인
+     * <p>uid가 없는 이전 발급 토큰은 username으로 사용자 id를 조회(노드 로컬 캐시)해 에폭 0으로 비교하므로,
+     * 전체 로그아웃/세션 폐기 이후에는 이전 토큰도 거부.</p>
+     */
+    public boolean isCurrentEpoch(VerifiedToken verified) {
+        Long userId = verified.userId() != null ? verified.userId() : legacyUserIds.get(verified.subject(), this::loadUserId);
+        return tokenEpochStore.isCurrent(userId, verified.epoch());
+    }
 
-    public boolean isValidRefreshToken(String refreshToken) {
-        String stored = redisTemplate.opsForValue().get("refresh:" + getUsername(refreshToken));
-        return stored != null && stored.equals(refreshToken);
+    private Long loadUserId(String username) {
+        return ((CustomUserDetails) userDetailsService.loadUserByUsername(username)).getUser().getId();
     }
 
     public boolean isExpired(String token) {
@@ -0,0 +1,50 @@
+package com.gjaku1031.templateforagent.infrastructure.security.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+
+/**
+ * 서명/issuer 검증을 통과한 JWT
+ * <p>요청당 한 번만 파싱하고 필터 체인 전반에서 재사용하기 위한 불변 값 객체.</p>
+ *
+ * @param claims    검증된 클레임 원본
+ * @param jti       토큰 식별자
+ * @param userId    사용자 식별자(uid 클레임, 이전 발급 토큰은 null)
+ * @param epoch     발급 시점 사용자 토큰 에폭(ver 클레임, 없으면 0)
+ * @param subject   사용자명(sub)
+ * @param role      권한(role 클레임, 리프레시 토큰은 null)
+ * @param sid       리프레시 세션 식별자(sid 클레임, 이전 발급 토큰은 null)
+ * @param expiresAt 만료 시각
+ */
+public record VerifiedToken(Claims claims, String jti, Long userId, long epoch, String subject, String role, String sid,
+                            Instant expiresAt) {
+
+    /**
+     * 검증된 클레임에서 자주 쓰는 값을 추출해 생성
+     */
+    public static VerifiedToken from(Claims claims) {
+        Object role = claims.get("role");
+        Object uid = claims.get("uid");
+        Object ver = claims.get("ver");
+        Object sid = claims.get("sid");
+        return new VerifiedToken(
+                claims,
+                claims.getId(),
+                uid instanceof Number n ? n.longValue() : null,
+                ver instanceof Number v ? v.longValue() : 0L,
+                claims.getSubject(),
+                role == null ? null : role.toString(),
+                sid == null ? null : sid.toString(),
+                claims.getExpiration().toInstant()
+        );
+    }
+
+    public boolean hasRole() {
+        return role != null;
+    }
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
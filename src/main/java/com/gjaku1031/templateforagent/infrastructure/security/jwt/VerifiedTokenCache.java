@@ -0,0 +1,82 @@
+package com.gjaku1031.templateforagent.infrastructure.security.jwt;
+
+import com.gjaku1031.templateforagent.infrastructure.config.JwtConfig;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 검증 완료 JWT 로컬 캐시
+ * <p>토큰 원문 대신 SHA-256 다이제스트(앞 128bit)를 키로 보관하고, 각 엔트리는 토큰 만료 시각에 함께 만료.
+ * 같은 토큰으로 반복 호출하는 클라이언트는 HMAC 서명 검증과 클레임 파싱을 건너뜀.</p>
+ * <p>크기는 {@code jwt.verified-token-cache-size}로 제한하며 스레드 안전.</p>
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final Cache<TokenDigest, VerifiedToken> cache;
+
+    public VerifiedTokenCache(JwtConfig jwtConfig) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(jwtConfig.getVerifiedTokenCacheSize())
+                .expireAfter(new UntilTokenExpiry())
+                .build();
+    }
+
+    /**
+     * 캐시된 검증 결과 반환(없거나 만료되었으면 null)
+     */
+    public VerifiedToken get(String token) {
+        VerifiedToken cached = cache.getIfPresent(TokenDigest.of(token));
+        if (cached == null || cached.isExpired(Instant.now())) return null;
+        return cached;
+    }
+
+    public void put(String token, VerifiedToken verified) {
+        cache.put(TokenDigest.of(token), verified);
+    }
+
+    /**
+     * 토큰 다이제스트 키(128bit)
+     */
+    record TokenDigest(long high, long low) {
+        static TokenDigest of(String token) {
+            try {
+                byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+                ByteBuffer buffer = ByteBuffer.wrap(hash);
+                return new TokenDigest(buffer.getLong(), buffer.getLong());
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+        }
+    }
+
+    /**
+     * 엔트리 수명을 토큰 만료 시각까지로 맞추는 Expiry
+     */
+    private static final class UntilTokenExpiry implements Expiry<TokenDigest, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(TokenDigest key, VerifiedToken value, long currentTime) {
+            long nanos = Duration.between(Instant.now(), value.expiresAt()).toNanos();
+            return Math.max(nanos, 0);
+        }
+
+        @Override
+        public long expireAfterUpdate(TokenDigest key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(TokenDigest key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
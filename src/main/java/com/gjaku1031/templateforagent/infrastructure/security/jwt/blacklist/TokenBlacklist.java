@@ -0,0 +1,272 @@
+package com.gjaku1031.templateforagent.infrastructure.security.jwt.blacklist;
+
+import com.gjaku1031.templateforagent.infrastructure.config.JwtConfig;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 액세스 토큰 블랙리스트(로컬 Bloom 필터 + Near 캐시 + Redis)
+ * <p>폐기된 jti를 토큰 만료 시각 기준의 시간 버킷별 {@link BloomFilter}에 적재해
+ * 대부분의 요청을 "확실히 폐기되지 않음"으로 로컬에서 판정. Bloom이 "있을 수도 있음"이라고 답할 때만
+ * Redis {@code blacklist:<jti>}를 조회하고, 그 결과를 토큰 만료 시각까지 로컬에 보관.</p>
+ * <p><b>노드 간 동기화</b></p>
+ * <ul>
+ *   <li>Redis 값은 토큰 만료 epochMillis. 재동기화 시 TTL로 역산하지 않고 정확한 만료 시각으로 같은 버킷 선택</li>
+ *   <li>폐기 시 Redis 키 기록 후 {@value #CHANNEL} 채널로 {@code jti|만료epochMillis} 발행, 모든 노드가 구독해 반영</li>
+ *   <li>기동 직후와 {@code jwt.blacklist.resync-interval} 주기로 {@code blacklist:*}를 SCAN해 유실된 메시지 보정</li>
+ *   <li>최초 동기화 전에는 로컬 판정을 신뢰하지 않고 매 요청 Redis 조회</li>
+ * </ul>
+ * <p><b>메트릭</b>: {@code jwt.blacklist.checks{result}}, {@code jwt.blacklist.redis.avoided},
+ * {@code jwt.blacklist.false.positive.ratio}</p>
+ */
+@Slf4j
+@Component
+public class TokenBlacklist implements MessageListener {
+
+    public static final String KEY_PREFIX = "blacklist:";
+    public static final String CHANNEL = "jwt:blacklist";
+    private static final int RESYNC_BATCH = 1000;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JwtConfig.Blacklist config;
+    private final long bucketWidthMillis;
+    private final ConcurrentSkipListMap<Long, BloomFilter> buckets = new ConcurrentSkipListMap<>();
+    private final Cache<String, Confirmation> confirmed;
+    private volatile boolean synced;
+
+    private final Counter bloomNegatives;
+    private final Counter nearCacheHits;
+    private final Counter confirmedRevocations;
+    private final Counter falsePositives;
+    private final Counter notSynced;
+    private final Counter redisAvoided;
+
+    public TokenBlacklist(RedisTemplate<String, String> redisTemplate,
+                          JwtConfig jwtConfig,
+                          RedisMessageListenerContainer listenerContainer,
+                          MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.config = jwtConfig.getBlacklist();
+        this.bucketWidthMillis = Math.max(1, config.getBucketWidth().toMillis());
+        this.confirmed = Caffeine.newBuilder()
+                .maximumSize(config.getExpectedInsertionsPerBucket())
+                .expireAfter(new UntilTokenExpiry())
+                .build();
+
+        this.bloomNegatives = checks(meterRegistry, "bloom_negative");
+        this.nearCacheHits = checks(meterRegistry, "near_cache");
+        this.confirmedRevocations = checks(meterRegistry, "redis_revoked");
+        this.falsePositives = checks(meterRegistry, "redis_false_positive");
+        this.notSynced = checks(meterRegistry, "not_synced");
+        this.redisAvoided = Counter.builder("jwt.blacklist.redis.avoided")
+                .description("Blacklist checks answered locally without a Redis call")
+                .register(meterRegistry);
+        Gauge.builder("jwt.blacklist.false.positive.ratio", this, TokenBlacklist::falsePositiveRatio)
+                .description("Share of non-revoked tokens that the Bloom filter reported as possibly revoked")
+                .register(meterRegistry);
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * jti 폐기 여부 판정
+     *
+     * @param jti       토큰 식별자
+     * @param expiresAt 토큰 만료 시각(버킷 선택에 사용)
+     * @return 폐기된 토큰이면 true
+     */
+    public boolean isRevoked(String jti, Instant expiresAt) {
+        if (!synced) {
+            notSynced.increment();
+            return redisHasKey(jti);
+        }
+        BloomFilter bucket = buckets.get(bucketOf(expiresAt));
+        if (bucket == null || !bucket.mightContain(jti)) {
+            bloomNegatives.increment();
+            redisAvoided.increment();
+            return false;
+        }
+        Confirmation cached = confirmed.getIfPresent(jti);
+        if (cached != null) {
+            nearCacheHits.increment();
+            redisAvoided.increment();
+            return cached.revoked();
+        }
+        boolean revoked = redisHasKey(jti);
+        (revoked ? confirmedRevocations : falsePositives).increment();
+        // 조회 도중 도착한 폐기 메시지를 덮어쓰지 않도록 putIfAbsent
+        confirmed.asMap().putIfAbsent(jti, new Confirmation(revoked, expiresAt));
+        return revoked;
+    }
+
+    /**
+     * jti 폐기 등록
+     * <p>Redis에 토큰 만료 시각까지 유지되는 키를 기록하고 다른 노드에 브로드캐스트.</p>
+     */
+    public void revoke(String jti, Instant expiresAt) {
+        long ttl = Duration.between(Instant.now(), expiresAt).toMillis();
+        if (ttl <= 0) return;
+        redisTemplate.opsForValue().set(KEY_PREFIX + jti, Long.toString(expiresAt.toEpochMilli()), ttl, TimeUnit.MILLISECONDS);
+        redisTemplate.convertAndSend(CHANNEL, jti + "|" + expiresAt.toEpochMilli());
+        applyLocally(jti, expiresAt);
+    }
+
+    /**
+     * 다른 경로(로그아웃 스크립트 등)로 이미 Redis 기록/발행된 폐기를 로컬 필터에만 반영
+     */
+    public void markRevoked(String jti, Instant expiresAt) {
+        applyLocally(jti, expiresAt);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int sep = body.lastIndexOf('|');
+        if (sep <= 0) return;
+        try {
+            applyLocally(body.substring(0, sep), Instant.ofEpochMilli(Long.parseLong(body.substring(sep + 1))));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed blacklist message: {}", body);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void syncOnStartup() {
+        resync();
+    }
+
+    /**
+     * Redis의 {@code blacklist:*} 전체를 로컬 필터에 재적재
+     */
+    @Scheduled(initialDelayString = "${jwt.blacklist.resync-interval:PT5M}",
+            fixedDelayString = "${jwt.blacklist.resync-interval:PT5M}")
+    public void resync() {
+        try {
+            ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(RESYNC_BATCH).build();
+            List<String> keys = new ArrayList<>(RESYNC_BATCH);
+            try (Cursor<String> cursor = redisTemplate.scan(options)) {
+                while (cursor.hasNext()) {
+                    keys.add(cursor.next());
+                    if (keys.size() == RESYNC_BATCH) {
+                        load(keys);
+                        keys.clear();
+                    }
+                }
+            }
+            load(keys);
+            synced = true;
+        } catch (Exception e) {
+            log.warn("Token blacklist resync failed; falling back to Redis lookups until next sync", e);
+        }
+    }
+
+    /**
+     * SCAN 한 묶음의 값(만료 epochMillis)을 MGET으로 읽어 로컬 필터에 반영
+     * <p>값이 숫자가 아닌 이전 형식 키는 TTL로 만료 시각을 추정하므로, 추정 오차로 버킷 경계를 넘는 경우에 대비해
+     * 추정 버킷과 다음 버킷 모두에 적재.</p>
+     */
+    private void load(List<String> keys) {
+        if (keys.isEmpty()) return;
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        if (values == null) return;
+        for (int i = 0; i < keys.size(); i++) {
+            String value = values.get(i);
+            if (value == null) continue;
+            String jti = keys.get(i).substring(KEY_PREFIX.length());
+            Long expiresAt = parseEpochMillis(value);
+            if (expiresAt != null) {
+                applyLocally(jti, Instant.ofEpochMilli(expiresAt));
+                continue;
+            }
+            Long ttl = redisTemplate.getExpire(keys.get(i), TimeUnit.MILLISECONDS);
+            if (ttl == null || ttl <= 0) continue;
+            Instant estimated = Instant.now().plusMillis(ttl);
+            applyLocally(jti, estimated);
+            applyLocally(jti, estimated.plusMillis(bucketWidthMillis));
+        }
+    }
+
+    private static Long parseEpochMillis(String value) {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private void applyLocally(String jti, Instant expiresAt) {
+        long nowBucket = bucketOf(Instant.now());
+        buckets.headMap(nowBucket).clear();
+        long bucket = bucketOf(expiresAt);
+        if (bucket < nowBucket) return;
+        buckets.computeIfAbsent(bucket,
+                b -> new BloomFilter(config.getExpectedInsertionsPerBucket(), config.getFalsePositiveProbability()))
+                .put(jti);
+        confirmed.put(jti, new Confirmation(true, expiresAt));
+    }
+
+    private boolean redisHasKey(String jti) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + jti));
+    }
+
+    private long bucketOf(Instant expiresAt) {
+        return expiresAt.toEpochMilli() / bucketWidthMillis;
+    }
+
+    private double falsePositiveRatio() {
+        double fp = falsePositives.count();
+        double negatives = bloomNegatives.count() + fp;
+        return negatives == 0 ? 0 : fp / negatives;
+    }
+
+    private static Counter checks(MeterRegistry registry, String result) {
+        return Counter.builder("jwt.blacklist.checks")
+                .description("Access token blacklist checks by resolution path")
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private record Confirmation(boolean revoked, Instant expiresAt) {
+    }
+
+    private static final class UntilTokenExpiry implements Expiry<String, Confirmation> {
+        @Override
+        public long expireAfterCreate(String key, Confirmation value, long currentTime) {
+            return Math.max(Duration.between(Instant.now(), value.expiresAt()).toNanos(), 0);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Confirmation value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Confirmation value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.gjaku1031.templateforagent.infrastructure.security.jwt.epoch;
+
+import com.gjaku1031.templateforagent.infrastructure.config.JwtConfig;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 사용자별 토큰 에폭(버전) 저장소
+ * <p>토큰 발급 시 현재 에폭을 {@code ver} 클레임으로 싣고, 검증 시 토큰의 에폭이 현재 값보다 작으면 폐기로 판정.
+ * 에폭을 1 올리는 것만으로 해당 사용자의 모든 액세스/리프레시 토큰이 무효화되므로
+ * 전체 로그아웃이 키 하나에 대한 O(1) 쓰기로 끝나고 로그아웃 트래픽만큼 키가 늘지 않음.</p>
+ * <p><b>캐시</b></p>
+ * <ul>
+ *   <li>Redis {@code token-epoch:<userId>}(없으면 0)를 노드 로컬에 {@code jwt.epoch.cache-ttl} 동안 캐시</li>
+ *   <li>에폭 증가 시 {@value #CHANNEL} 채널로 {@code userId|epoch}를 발행해 다른 노드 캐시를 즉시 갱신</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class TokenEpochStore implements MessageListener {
+
+    public static final String KEY_PREFIX = "token-epoch:";
+    public static final String CHANNEL = "jwt:epoch";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Cache<Long, Long> epochs;
+
+    public TokenEpochStore(RedisTemplate<String, String> redisTemplate,
+                           JwtConfig jwtConfig,
+                           RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.epochs = Caffeine.newBuilder()
+                .maximumSize(jwtConfig.getEpoch().getCacheSize())
+                .expireAfterWrite(jwtConfig.getEpoch().getCacheTtl())
+                .build();
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * 사용자의 현재 에폭 반환(로컬 캐시 우선)
+     */
+    public long current(Long userId) {
+        return epochs.get(userId, this::load);
+    }
+
+    /**
+     * 사용자 에폭 증가(해당 사용자의 기존 토큰 전체 무효화)
+     *
+     * @return 증가된 에폭
+     */
+    public long bump(Long userId) {
+        Long next = redisTemplate.opsForValue().increment(KEY_PREFIX + userId);
+        long epoch = next == null ? 0 : next;
+        epochs.put(userId, epoch);
+        redisTemplate.convertAndSend(CHANNEL, userId + "|" + epoch);
+        return epoch;
+    }
+
+    /**
+     * 토큰에 실린 에폭이 현재 에폭 이상인지 확인
+     */
+    public boolean isCurrent(Long userId, long tokenEpoch) {
+        return tokenEpoch >= current(userId);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int sep = body.indexOf('|');
+        if (sep <= 0) return;
+        try {
+            Long userId = Long.parseLong(body.substring(0, sep));
+            long epoch = Long.parseLong(body.substring(sep + 1));
+            // 순서가 뒤바뀐 메시지로 에폭이 되돌아가지 않도록 큰 값만 반영
+            epochs.asMap().merge(userId, epoch, Math::max);
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed token epoch message: {}", body);
+        }
+    }
+
+    private Long load(Long userId) {
+        String value = redisTemplate.opsForValue().get(KEY_PREFIX + userId);
+        return value == null ? 0L : Long.parseLong(value);
+    }
+}
@@ -0,0 +1,149 @@
+package com.gjaku1031.templateforagent.infrastructure.security.jwt.session;
+
+import com.gjaku1031.templateforagent.infrastructure.config.JwtConfig;
+import com.gjaku1031.templateforagent.infrastructure.security.jwt.IssuedToken;
+import com.gjaku1031.templateforagent.infrastructure.security.jwt.blacklist.TokenBlacklist;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 사용자별 리프레시 세션 저장소(Redis 해시 + Lua 스크립트)
+ * <p>사용자당 해시 {@code sessions:<userId>} 하나에 기기(세션)별 필드 {@code sid → "jti|만료epochMillis"}를 보관.
+ * 세션 수는 {@code jwt.session.max-per-user}로 제한하고 초과 시 만료가 가장 이른 세션부터 제거.</p>
+ * <p><b>원자성</b></p>
+ * <ul>
+ *   <li>등록/회전/로그아웃을 각각 Lua 스크립트 한 번(EVALSHA 1회 왕복)으로 처리</li>
+ *   <li>회전은 저장된 jti와 제시된 jti를 비교해 일치할 때만 새 jti로 교체(compare-and-swap)하므로
+ *       동시에 들어온 두 리프레시 중 하나만 성공</li>
+ *   <li>직전 jti가 {@code jwt.session.rotation-grace} 안에 다시 제시되면 동시 요청으로 보고 방금 회전된 현재 토큰을 돌려줌
+ *       (같은 클라이언트의 병렬 리프레시가 서로를 로그아웃시키지 않도록)</li>
+ *   <li>그보다 오래된 jti가 제시되면 탈취 가능성으로 보고 해당 세션을 즉시 폐기(재사용 탐지)</li>
+ * </ul>
+ * <p>유예용 기록 {@code sessions:<userId>:rotated:<sid>}에는 직전 jti와 현재 리프레시 토큰을 유예 시간 동안만 보관.</p>
+ * <p>로그아웃 스크립트는 세션 키와 블랙리스트 키를 함께 다루므로 단일 Redis(또는 Sentinel) 구성을 전제.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshSessionStore {
+
+    public static final String KEY_PREFIX = "sessions:";
+    private static final String GRACE_PREFIX = "GRACE|";
+
+    private static final RedisScript<Long> ISSUE =
+            RedisScript.of(new ClassPathResource("redis/session-issue.lua"), Long.class);
+    private static final RedisScript<String> ROTATE =
+            RedisScript.of(new ClassPathResource("redis/session-rotate.lua"), String.class);
+    private static final RedisScript<Long> LOGOUT =
+            RedisScript.of(new ClassPathResource("redis/session-logout.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TokenBlacklist tokenBlacklist;
+    private final JwtConfig jwtConfig;
+
+    /**
+     * 회전 결과
+     */
+    public enum Rotation {
+        /** 제시된 토큰이 현재 토큰이어서 새 토큰으로 교체됨 */
+        ROTATED,
+        /** 유예 시간 안에 직전 토큰이 제시됨(교체 없이 현재 토큰 반환) */
+        GRACE,
+        /** 세션이 없거나 만료됨(로그아웃/한도 초과 제거 포함) */
+        MISSING,
+        /** 이미 회전된 토큰이 재사용됨(세션 폐기됨) */
+        REUSED
+    }
+
+    /**
+     * 회전 결과와 클라이언트에 돌려줄 리프레시 토큰
+     *
+     * @param rotation     회전 결과
+     * @param refreshToken {@code ROTATED}면 새 토큰, {@code GRACE}면 현재 토큰, 그 외 null
+     */
+    public record RotationResult(Rotation rotation, String refreshToken) {
+    }
+
+    /**
+     * 로그인 시 새 세션 등록
+     *
+     * @param userId  사용자 id
+     * @param sid     세션 식별자
+     * @param refresh 발급한 리프레시 토큰
+     */
+    public void open(Long userId, String sid, IssuedToken refresh) {
+        Long evicted = redisTemplate.execute(ISSUE, List.of(key(userId)),
+                sid, refresh.jti(), millis(refresh.expiresAt()), millis(Instant.now()),
+                String.valueOf(jwtConfig.getSession().getMaxPerUser()), keyTtl());
+        if (evicted != null && evicted > 0) {
+            log.debug("Evicted {} refresh session(s) of user {} over the per-user limit", evicted, userId);
+        }
+    }
+
+    /**
+     * 제시된 리프레시 토큰을 새 토큰으로 교체
+     *
+     * @param userId       사용자 id
+     * @param sid          세션 식별자
+     * @param presentedJti 제시된 리프레시 토큰 jti
+     * @param next         새로 발급한 리프레시 토큰
+     */
+    public RotationResult rotate(Long userId, String sid, String presentedJti, IssuedToken next) {
+        String result = redisTemplate.execute(ROTATE, List.of(key(userId), rotatedKey(userId, sid)),
+                sid, presentedJti, next.jti(), millis(next.expiresAt()), millis(Instant.now()), keyTtl(),
+                next.value(), String.valueOf(jwtConfig.getSession().getRotationGrace().toMillis()));
+        if ("OK".equals(result)) return new RotationResult(Rotation.ROTATED, next.value());
+        if (result != null && result.startsWith(GRACE_PREFIX)) {
+            return new RotationResult(Rotation.GRACE, result.substring(GRACE_PREFIX.length()));
+        }
+        if ("REUSED".equals(result)) return new RotationResult(Rotation.REUSED, null);
+        return new RotationResult(Rotation.MISSING, null);
+    }
+
+    /**
+     * 로그아웃: 액세스 토큰 폐기와 세션 삭제를 한 번에 처리
+     *
+     * @param userId          사용자 id
+     * @param sid             세션 식별자
+     * @param accessJti       액세스 토큰 jti
+     * @param accessExpiresAt 액세스 토큰 만료 시각
+     */
+    public void close(Long userId, String sid, String accessJti, Instant accessExpiresAt) {
+        long ttl = Math.max(Duration.between(Instant.now(), accessExpiresAt).toMillis(), 0);
+        redisTemplate.execute(LOGOUT, List.of(key(userId), TokenBlacklist.KEY_PREFIX + accessJti),
+                sid, accessJti, millis(accessExpiresAt), String.valueOf(ttl), TokenBlacklist.CHANNEL);
+        // 자기 노드는 Pub/Sub 수신을 기다리지 않고 바로 반영
+        if (ttl > 0) tokenBlacklist.markRevoked(accessJti, accessExpiresAt);
+    }
+
+    /**
+     * 사용자의 모든 세션 삭제(전체 로그아웃)
+     */
+    public void closeAll(Long userId) {
+        redisTemplate.delete(key(userId));
+    }
+
+    private String keyTtl() {
+        return String.valueOf(jwtConfig.getRefreshTokenExpiration());
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private static String rotatedKey(Long userId, String sid) {
+        return KEY_PREFIX + userId + ":rotated:" + sid;
+    }
+
+    private static String millis(Instant instant) {
+        return String.valueOf(instant.toEpochMilli());
+    }
+}
@@ -1,5 +1,7 @@
 package com.gjaku1031.templateforagent.infrastructure.web;
 
+import com.gjaku1031.templateforagent.infrastructure.security.AuthenticatedUser;
+import com.gjaku1031.templateforagent.infrastructure.security.CustomUserDetails;
 import com.gjaku1031.templateforagent.presentation.common.annotation.CurrentUser;
 import org.springframework.core.MethodParameter;
 import org.springframework.security.core.Authentication;
@@ -11,7 +13,8 @@ import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
 /**
- * 현재 로그인 사용자 ID를 주입하는 아규먼트 리졸버
+ * 현재 로그인 사용자를 주입하는 아규먼트 리졸버
+ * <p>파라미터 타입이 {@code Long}이면 사용자 ID, {@link AuthenticatedUser}면 ID/사용자명/권한 전체를 주입.</p>
  */
 @Component
 public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
@@ -19,7 +22,8 @@ public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolve
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
         return parameter.hasParameterAnnotation(CurrentUser.class)
-                && Long.class.isAssignableFrom(parameter.getParameterType());
+                && (Long.class.isAssignableFrom(parameter.getParameterType())
+                || AuthenticatedUser.class.isAssignableFrom(parameter.getParameterType()));
     }
 
     @Override
@@ -27,17 +31,14 @@ public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolve
                                   NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         if (auth == null || !auth.isAuthenticated()) return null;
-        Object principal = auth.getPrincipal();
-        try {
-            // 기대 타입: CustomUserDetails(user.id)
-            var userField = principal.getClass().getDeclaredField("user");
-            userField.setAccessible(true);
-            Object user = userField.get(principal);
-            var idMethod = user.getClass().getMethod("getId");
-            Object id = idMethod.invoke(user);
-            return (id instanceof Long) ? id : null;
-        } catch (Exception ignore) {
-            return null;
-        }
+        AuthenticatedUser user = toAuthenticatedUser(auth.getPrincipal());
+        if (user == null) return null;
+        return AuthenticatedUser.class.isAssignableFrom(parameter.getParameterType()) ? user : user.id();
+    }
+
+    private AuthenticatedUser toAuthenticatedUser(Object principal) {
+        if (principal instanceof AuthenticatedUser user) return user;
+        if (principal instanceof CustomUserDetails cud) return AuthenticatedUser.from(cud);
+        return null;
     }
 }
@@ -0,0 +1,32 @@
+package com.gjaku1031.templateforagent.infrastructure.web;
+
+import com.gjaku1031.templateforagent.infrastructure.config.AsyncTimeoutConfig;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 비동기 처리 시작 직전에 엔드포인트별 제한 시간을 적용하는 인터셉터
+ * <p>{@code StreamingResponseBody}는 반환 타입에 제한 시간을 실을 수 없으므로,
+ * 매핑된 경로 패턴으로 {@link AsyncTimeoutConfig}를 찾아 비동기 시작 전에 요청의 제한 시간을 교체.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class EndpointAsyncTimeoutInterceptor implements CallableProcessingInterceptor {
+
+    private final AsyncTimeoutConfig asyncTimeoutConfig;
+
+    @Override
+    public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (pattern == null || !(request instanceof AsyncWebRequest asyncRequest)) return;
+        Duration timeout = asyncTimeoutConfig.timeoutFor(pattern.toString());
+        if (timeout != null) asyncRequest.setTimeout(timeout.toMillis());
+    }
+}
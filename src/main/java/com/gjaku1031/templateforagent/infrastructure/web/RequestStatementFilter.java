@@ -0,0 +1,92 @@
+package com.gjaku1031.templateforagent.infrastructure.web;
+
+import com.gjaku1031.templateforagent.infrastructure.config.StatementBudgetConfig;
+import com.gjaku1031.templateforagent.infrastructure.persistence.RequestStatementCounter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter.MeterProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청당 SQL 문 수 집계/예산 확인 필터
+ * <p>보안 필터(권한 평가 중 조회 포함)보다 바깥에서 {@link RequestStatementCounter} 구간을 열고 닫음.</p>
+ * <ul>
+ *   <li>{@code hibernate.request.statements{method, uri}} 분포 기록(uri는 매핑된 경로 패턴)</li>
+ *   <li>예산({@link StatementBudgetInterceptor}가 지정) 초과 시 경고 로그 + {@code hibernate.request.budget.exceeded} 카운터</li>
+ *   <li>{@code app.jpa.statement-budget.expose-header=true}일 때만 응답 커밋 직전까지 센 값을 {@value #HEADER} 헤더로 노출(기본 꺼짐)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
+public class RequestStatementFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Query-Count";
+
+    private final StatementBudgetConfig budgetConfig;
+    private final boolean exposeHeader;
+    private final MeterProvider<DistributionSummary> statements;
+    private final MeterProvider<Counter> exceeded;
+
+    public RequestStatementFilter(StatementBudgetConfig budgetConfig, MeterRegistry meterRegistry) {
+        this.budgetConfig = budgetConfig;
+        this.exposeHeader = budgetConfig.isExposeHeader();
+        this.statements = DistributionSummary.builder("hibernate.request.statements")
+                .description("SQL statements prepared by Hibernate per HTTP request")
+                .baseUnit("statements")
+                .withRegistry(meterRegistry);
+        this.exceeded = Counter.builder("hibernate.request.budget.exceeded")
+                .description("Requests that prepared more SQL statements than their endpoint budget")
+                .withRegistry(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain) throws ServletException, IOException {
+        RequestStatementCounter.begin();
+        try {
+            filterChain.doFilter(request, exposeHeader ? new QueryCountHeaderResponse(response) : response);
+            // 본문 없는 응답은 체인이 끝난 뒤 컨테이너가 커밋하므로 여기서 기록
+            if (exposeHeader && !response.isCommitted()) response.setIntHeader(HEADER, RequestStatementCounter.current());
+        } finally {
+            RequestStatementCounter.Window window = RequestStatementCounter.end();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+            statements.withTags("method", request.getMethod(), "uri", uri).record(window.count());
+            if (budgetConfig.isEnabled() && window.exceeded()) {
+                exceeded.withTags("method", request.getMethod(), "uri", uri).increment();
+                log.warn("SQL statement budget exceeded for {}: {} statements (budget {})",
+                        window.endpoint(), window.count(), window.budget());
+            }
+        }
+    }
+
+    /**
+     * 커밋 직전에 현재 SQL 문 수를 헤더로 기록하는 응답 래퍼(스트리밍 응답은 첫 flush 시점 값)
+     */
+    private static final class QueryCountHeaderResponse extends OnCommittedResponseWrapper {
+
+        QueryCountHeaderResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            setIntHeader(HEADER, RequestStatementCounter.current());
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.gjaku1031.templateforagent.infrastructure.web;
+
+import com.gjaku1031.templateforagent.infrastructure.config.StatementBudgetConfig;
+import com.gjaku1031.templateforagent.infrastructure.persistence.RequestStatementCounter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 핸들러가 정해진 시점에 현재 요청의 SQL 문 예산을 지정하는 인터셉터
+ * <p>매핑된 경로 패턴 + HTTP 메서드로 {@link StatementBudgetConfig}에서 예산을 찾아 집계 구간에 설정.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class StatementBudgetInterceptor implements HandlerInterceptor {
+
+    private final StatementBudgetConfig budgetConfig;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!budgetConfig.isEnabled()) return true;
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) return true;
+        String method = request.getMethod();
+        RequestStatementCounter.limit(method + " " + pattern, budgetConfig.budgetFor(method, pattern.toString()));
+        return true;
+    }
+}
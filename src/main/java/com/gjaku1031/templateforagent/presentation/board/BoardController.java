@@ -1,15 +1,29 @@
 package com.gjaku1031.templateforagent.presentation.board;
 
+import com.gjaku1031.templateforagent.application.board.BoardExportFormat;
+import com.gjaku1031.templateforagent.application.board.BoardExportService;
+import com.gjaku1031.templateforagent.application.board.BoardImportService;
 import com.gjaku1031.templateforagent.application.board.BoardService;
+import com.gjaku1031.templateforagent.common.paging.CursorCodec;
+import com.gjaku1031.templateforagent.infrastructure.security.AuthenticatedUser;
 import com.gjaku1031.templateforagent.presentation.board.docs.BoardApiDocs;
+import com.gjaku1031.templateforagent.presentation.common.CursorResponse;
+import com.gjaku1031.templateforagent.presentation.common.annotation.AdminOrBoardOwnerDelete;
+import com.gjaku1031.templateforagent.presentation.common.annotation.AdminOrBoardOwnerUpdate;
 import com.gjaku1031.templateforagent.presentation.common.annotation.CurrentUser;
+import com.gjaku1031.templateforagent.presentation.common.annotation.IsAdmin;
 import com.gjaku1031.templateforagent.presentation.board.dto.*;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.stream.Collectors;
 
 @RestController
@@ -17,6 +31,8 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class BoardController implements BoardApiDocs {
     private final BoardService boardService;
+    private final BoardImportService boardImportService;
+    private final BoardExportService boardExportService;
 
     @PostMapping
     public ResponseEntity<Long> createBoard(@RequestBody @Valid BoardCreateRequest request,
@@ -24,6 +40,30 @@ public class BoardController implements BoardApiDocs {
         return ResponseEntity.ok(boardService.create(userId, request.getTitle(), request.getContent()));
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @IsAdmin
+    @Override
+    public ResponseEntity<BoardImportResponse> importBoards(InputStream body,
+                                                            @RequestParam(name = "batchSize", defaultValue = "500") int batchSize,
+                                                            @CurrentUser Long userId) throws IOException {
+        return ResponseEntity.ok(boardImportService.importNdjson(body, userId, batchSize));
+    }
+
+    @GetMapping("/export")
+    @IsAdmin
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportBoards(
+            @RequestParam(name = "format", defaultValue = "ndjson") String format,
+            @RequestParam(name = "keyword", required = false) String keyword,
+            @RequestParam(name = "authorId", required = false) Long authorId) {
+        BoardExportFormat exportFormat = BoardExportFormat.from(format);
+        StreamingResponseBody body = out -> boardExportService.export(keyword, authorId, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"boards." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
     @GetMapping("/{id}")
     @Override
     public ResponseEntity<BoardResponse> getBoard(@PathVariable("id") Long id) {
@@ -31,22 +71,36 @@ public class BoardController implements BoardApiDocs {
     }
 
     @PutMapping("/{id}")
+    @AdminOrBoardOwnerUpdate
     @Override
-    public ResponseEntity<Void> updateBoard(@PathVariable("id") Long id, @RequestBody @Valid BoardUpdateRequest request) {
-        boardService.update(id, request.getTitle(), request.getContent());
+    public ResponseEntity<Void> updateBoard(@PathVariable("id") Long id, @RequestBody @Valid BoardUpdateRequest request,
+                                            @CurrentUser AuthenticatedUser actor) {
+        boardService.update(id, actor, request.getTitle(), request.getContent(), request.getVersion());
         return ResponseEntity.ok().build();
     }
 
     @DeleteMapping("/{id}")
+    @AdminOrBoardOwnerDelete
     @Override
-    public ResponseEntity<Void> deleteBoard(@PathVariable("id") Long id) {
-        boardService.delete(id);
+    public ResponseEntity<Void> deleteBoard(@PathVariable("id") Long id,
+                                            @RequestParam(name = "version", required = false) Long version,
+                                            @CurrentUser AuthenticatedUser actor) {
+        boardService.delete(id, actor, version);
         return ResponseEntity.ok().build();
     }
 
+    @GetMapping("/cursor")
+    @Override
+    public ResponseEntity<CursorResponse<BoardSummaryResponse>> searchBoardsByCursor(
+            @RequestParam(name = "keyword", required = false) String keyword,
+            @RequestParam(name = "after", required = false) String after,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(boardService.searchAfter(keyword, CursorCodec.decode(after), size));
+    }
+
     @GetMapping
     @Override
-    public ResponseEntity<Page<BoardResponse>> searchBoards(
+    public ResponseEntity<Page<BoardSummaryResponse>> searchBoards(
             @RequestParam(name = "keyword", required = false) String keyword,
             @RequestParam(name = "page", defaultValue = "0") int page,
             @RequestParam(name = "size", defaultValue = "20") int size) {
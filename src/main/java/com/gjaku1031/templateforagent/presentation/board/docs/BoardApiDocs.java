@@ -1,14 +1,21 @@
 package com.gjaku1031.templateforagent.presentation.board.docs;
 
+import com.gjaku1031.templateforagent.infrastructure.security.AuthenticatedUser;
 import com.gjaku1031.templateforagent.presentation.board.dto.*;
+import com.gjaku1031.templateforagent.presentation.common.CursorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import java.io.IOException;
+import java.io.InputStream;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 public interface BoardApiDocs {
     @Operation(summary = "Create board")
@@ -16,22 +23,49 @@ public interface BoardApiDocs {
     ResponseEntity<Long> createBoard(@RequestBody BoardCreateRequest request,
                                      @Parameter(hidden = true) Long userId);
 
+    @Operation(summary = "Import boards (NDJSON)",
+            description = "관리자 전용. 한 줄에 {\"title\", \"content\", \"authorId\"(선택)} 하나씩 스트리밍으로 읽어 batchSize 단위로 커밋. "
+                    + "실패한 줄은 줄 번호와 함께 보고하고 나머지는 계속 처리")
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(required = true,
+            content = @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = BoardImportLine.class)))
+    @SecurityRequirement(name = "bearerAuth")
+    ResponseEntity<BoardImportResponse> importBoards(@Parameter(hidden = true) InputStream body,
+                                                     @RequestParam(name = "batchSize", defaultValue = "500") int batchSize,
+                                                     @Parameter(hidden = true) Long userId) throws IOException;
+
+    @Operation(summary = "Export boards (NDJSON/CSV)",
+            description = "관리자 전용. 전체 또는 keyword/authorId로 거른 게시글을 id 오름차순으로 스트리밍(결과를 메모리에 모으지 않음). 제한 시간은 app.web.async-timeout.endpoints[/api/boards/export]")
+    @SecurityRequirement(name = "bearerAuth")
+    ResponseEntity<StreamingResponseBody> exportBoards(@RequestParam(name = "format", defaultValue = "ndjson") String format,
+                                                       @RequestParam(name = "keyword", required = false) String keyword,
+                                                       @RequestParam(name = "authorId", required = false) Long authorId);
+
     @Operation(summary = "Get board by id")
     @SecurityRequirement(name = "bearerAuth")
     ResponseEntity<BoardResponse> getBoard(@PathVariable("id") Long id);
 
-    @Operation(summary = "Update board")
+    @Operation(summary = "Update board", description = "version을 함께 보내면 다른 수정과 충돌 시 409 반환")
     @SecurityRequirement(name = "bearerAuth")
     ResponseEntity<Void> updateBoard(@PathVariable("id") Long id,
-                                     @RequestBody BoardUpdateRequest request);
+                                     @RequestBody BoardUpdateRequest request,
+                                     @Parameter(hidden = true) AuthenticatedUser actor);
+
+    @Operation(summary = "Delete board", description = "version을 지정하면 그 사이 수정된 경우 409 반환")
+    @SecurityRequirement(name = "bearerAuth")
+    ResponseEntity<Void> deleteBoard(@PathVariable("id") Long id,
+                                     @RequestParam(name = "version", required = false) Long version,
+                                     @Parameter(hidden = true) AuthenticatedUser actor);
 
-    @Operation(summary = "Delete board")
+    @Operation(summary = "Search boards (cursor)",
+            description = "응답의 nextCursor를 after로 전달해 다음 페이지 조회(카운트 없음). size는 1~100. 본문은 미리보기만 포함")
     @SecurityRequirement(name = "bearerAuth")
-    ResponseEntity<Void> deleteBoard(@PathVariable("id") Long id);
+    ResponseEntity<CursorResponse<BoardSummaryResponse>> searchBoardsByCursor(@RequestParam(name = "keyword", required = false) String keyword,
+                                                                              @RequestParam(name = "after", required = false) String after,
+                                                                              @RequestParam(name = "size", defaultValue = "20") int size);
 
-    @Operation(summary = "Search boards (paged)")
+    @Operation(summary = "Search boards (paged)", description = "기존 오프셋 페이지(총 개수 포함). 깊은 페이지는 /api/boards/cursor 사용 권장")
     @SecurityRequirement(name = "bearerAuth")
-    ResponseEntity<Page<BoardResponse>> searchBoards(@RequestParam(name = "keyword", required = false) String keyword,
-                                                     @RequestParam(name = "page", defaultValue = "0") int page,
-                                                     @RequestParam(name = "size", defaultValue = "20") int size);
+    ResponseEntity<Page<BoardSummaryResponse>> searchBoards(@RequestParam(name = "keyword", required = false) String keyword,
+                                                            @RequestParam(name = "page", defaultValue = "0") int page,
+                                                            @RequestParam(name = "size", defaultValue = "20") int size);
 }
@@ -0,0 +1,12 @@
+package com.gjaku1031.templateforagent.presentation.board.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class BoardImportLine {
+    private String title;
+    private String content;
+    private Long authorId; // 생략 시 요청한 관리자 본인
+}
@@ -0,0 +1,26 @@
+package com.gjaku1031.templateforagent.presentation.board.dto;
+
+import java.util.List;
+import lombok.Value;
+
+@Value
+public class BoardImportResponse {
+    long lines;
+    long imported;
+    long failed;
+    List<LineError> errors; // 실패 줄(최대 1,000건까지 보고)
+    long elapsedMillis;
+    double rowsPerSecond;
+
+    public static BoardImportResponse of(long lines, long imported, long failed, List<LineError> errors, long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        double rowsPerSecond = seconds > 0 ? imported / seconds : 0;
+        return new BoardImportResponse(lines, imported, failed, List.copyOf(errors), elapsedNanos / 1_000_000, rowsPerSecond);
+    }
+
+    @Value
+    public static class LineError {
+        long line;
+        String message;
+    }
+}
@@ -1,10 +1,13 @@
 package com.gjaku1031.templateforagent.presentation.board.dto;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.gjaku1031.templateforagent.domain.board.Board;
 import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
 import lombok.Value;
 
 @Value
+@AllArgsConstructor(onConstructor_ = @JsonCreator) // 캐시(JSON) 역직렬화용
 public class BoardResponse {
     Long id;
     String title;
@@ -13,6 +16,7 @@ public class BoardResponse {
     String authorUsername;
     LocalDateTime createdAt;
     LocalDateTime updatedAt;
+    Long version; // 수정/삭제 시 낙관적 동시성 제어용으로 다시 전달
 
     public static BoardResponse from(Board board) {
         return new BoardResponse(
@@ -22,8 +26,8 @@ public class BoardResponse {
                 board.getAuthor().getId(),
                 board.getAuthor().getUsername(),
                 board.getCreatedAt(),
-                board.getUpdatedAt()
+                board.getUpdatedAt(),
+                board.getVersion()
         );
     }
 }
-
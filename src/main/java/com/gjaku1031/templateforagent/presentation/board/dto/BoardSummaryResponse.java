@@ -0,0 +1,30 @@
+package com.gjaku1031.templateforagent.presentation.board.dto;
+
+import com.gjaku1031.templateforagent.domain.board.BoardSummary;
+import java.time.LocalDateTime;
+import lombok.Value;
+
+@Value
+public class BoardSummaryResponse {
+    Long id;
+    String title;
+    String preview; // 본문 미리보기, 전체 본문은 단건 조회로만 제공
+    Long authorId;
+    String authorUsername;
+    LocalDateTime createdAt;
+    LocalDateTime updatedAt;
+    String highlight; // 검색 시 일치 구간 스니펫(<mark>), 키워드 없으면 null
+
+    public static BoardSummaryResponse from(BoardSummary summary) {
+        return new BoardSummaryResponse(
+                summary.id(),
+                summary.title(),
+                summary.preview(),
+                summary.authorId(),
+                summary.authorUsername(),
+                summary.createdAt(),
+                summary.updatedAt(),
+                summary.highlight()
+        );
+    }
+}
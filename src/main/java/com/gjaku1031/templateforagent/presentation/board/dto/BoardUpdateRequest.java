@@ -9,5 +9,6 @@ public class BoardUpdateRequest {
     private String title;
     @NotBlank
     private String content;
+    private Long version; // 조회 시 받은 버전(생략하면 버전 비교 없이 덮어씀)
 }
 
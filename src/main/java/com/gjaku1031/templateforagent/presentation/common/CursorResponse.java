@@ -0,0 +1,42 @@
+package com.gjaku1031.templateforagent.presentation.common;
+
+import com.gjaku1031.templateforagent.common.paging.CursorCodec;
+import java.util.List;
+import java.util.function.Function;
+import lombok.Value;
+
+/**
+ * 키셋(커서) 페이지 응답 DTO
+ * <p>카운트 쿼리 없이 다음 페이지 존재 여부와 불투명 커서({@code nextCursor})만 제공.</p>
+ */
+@Value
+public class CursorResponse<T> {
+    public static final int MAX_SIZE = 100;
+
+    List<T> content;
+    int size;
+    boolean hasNext;
+    String nextCursor;
+
+    /**
+     * 요청 페이지 크기를 1~{@value #MAX_SIZE}로 제한({@code size + 1} 조회가 넘치지 않도록)
+     */
+    public static int clampSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_SIZE);
+    }
+
+    /**
+     * {@code size + 1}건 조회 결과로 커서 페이지 생성
+     *
+     * @param rows   id 내림차순으로 최대 {@code size + 1}건 조회한 행
+     * @param size   요청 페이지 크기
+     * @param idOf   행의 id 추출 함수(다음 커서 생성용)
+     * @param mapper 행을 응답 DTO로 변환하는 함수
+     */
+    public static <R, T> CursorResponse<T> of(List<R> rows, int size, Function<R, Long> idOf, Function<R, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<R> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? CursorCodec.encode(idOf.apply(page.get(page.size() - 1))) : null;
+        return new CursorResponse<>(page.stream().map(mapper).toList(), size, hasNext, nextCursor);
+    }
+}
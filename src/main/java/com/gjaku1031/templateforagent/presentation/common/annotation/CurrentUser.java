@@ -6,7 +6,7 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 /**
- * 현재 로그인 사용자 ID 주입 파라미터 어노테이션
+ * 현재 로그인 사용자(ID 또는 {@code AuthenticatedUser}) 주입 파라미터 어노테이션
  */
 @Target(ElementType.PARAMETER)
 @Retention(RetentionPolicy.RUNTIME)
@@ -0,0 +1,37 @@
+package com.gjaku1031.templateforagent.presentation.diagnostics;
+
+import com.gjaku1031.templateforagent.infrastructure.diagnostics.jfr.JfrDump;
+import com.gjaku1031.templateforagent.infrastructure.diagnostics.jfr.JfrRecorder;
+import com.gjaku1031.templateforagent.presentation.common.annotation.IsAdmin;
+import com.gjaku1031.templateforagent.presentation.diagnostics.docs.ProfilingApiDocs;
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/admin/profiling")
+@RequiredArgsConstructor
+public class ProfilingController implements ProfilingApiDocs {
+    private final JfrRecorder jfrRecorder;
+
+    @PostMapping("/jfr")
+    @IsAdmin
+    @Override
+    public ResponseEntity<StreamingResponseBody> recordJfr(
+            @RequestParam(name = "seconds", defaultValue = "60") int seconds,
+            @RequestParam(name = "settings", defaultValue = "profile") String settings) {
+        JfrDump dump = jfrRecorder.record(Duration.ofSeconds(seconds), settings);
+        StreamingResponseBody body = out -> jfrRecorder.transfer(dump, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + dump.name() + ".jfr\"")
+                .body(body);
+    }
+}
@@ -0,0 +1,16 @@
+package com.gjaku1031.templateforagent.presentation.diagnostics.docs;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+public interface ProfilingApiDocs {
+    @Operation(summary = "Record JFR",
+            description = "관리자 전용. seconds 동안 JFR 기록 후 .jfr 파일로 응답(JDK Mission Control로 분석). "
+                    + "settings는 default(저부하) 또는 profile(상세). 최대 기록 시간 초과는 400, 이미 기록 중이면 409")
+    @SecurityRequirement(name = "bearerAuth")
+    ResponseEntity<StreamingResponseBody> recordJfr(@RequestParam(name = "seconds", defaultValue = "60") int seconds,
+                                                    @RequestParam(name = "settings", defaultValue = "profile") String settings);
+}
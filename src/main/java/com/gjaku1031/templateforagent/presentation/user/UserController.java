@@ -2,7 +2,9 @@ package com.gjaku1031.templateforagent.presentation.user;
 
 import com.gjaku1031.templateforagent.application.auth.AuthService;
 import com.gjaku1031.templateforagent.application.user.UserService;
+import com.gjaku1031.templateforagent.common.paging.CursorCodec;
 import com.gjaku1031.templateforagent.domain.user.User;
+import com.gjaku1031.templateforagent.presentation.common.CursorResponse;
 import com.gjaku1031.templateforagent.presentation.common.annotation.*;
 import com.gjaku1031.templateforagent.presentation.common.annotation.CurrentUser;
 import com.gjaku1031.templateforagent.presentation.user.docs.UserApiDocs;
@@ -56,6 +58,21 @@ public class UserController implements UserApiDocs, UserAuthApiDocs {
         return ResponseEntity.ok().build();
     }
 
+    @PostMapping("/logout-all")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Void> logoutAll(@CurrentUser Long userId) {
+        authService.logoutAll(userId);
+        return ResponseEntity.ok().build();
+    }
+
+    @PostMapping("/{id}/revoke-sessions")
+    @IsAdmin
+    @Override
+    public ResponseEntity<Void> revokeSessions(@PathVariable("id") Long id) {
+        authService.logoutAll(id);
+        return ResponseEntity.ok().build();
+    }
+
     @PostMapping
     @IsAdmin
     @Override
@@ -87,6 +104,13 @@ public class UserController implements UserApiDocs, UserAuthApiDocs {
         return ResponseEntity.ok().build();
     }
 
+    @GetMapping("/cursor")
+    @IsAdmin
+    @Override
+    public ResponseEntity<CursorResponse<UserResponse>> listUsersByCursor(@RequestParam(name = "after", required = false) String after, @RequestParam(name = "size", defaultValue = "20") int size) {
+        return ResponseEntity.ok(userService.listAfter(CursorCodec.decode(after), size));
+    }
+
     @GetMapping
     @IsAdmin
     @Override
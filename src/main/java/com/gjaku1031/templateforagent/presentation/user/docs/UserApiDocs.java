@@ -1,5 +1,6 @@
 package com.gjaku1031.templateforagent.presentation.user.docs;
 
+import com.gjaku1031.templateforagent.presentation.common.CursorResponse;
 import com.gjaku1031.templateforagent.presentation.common.ErrorResponse;
 import com.gjaku1031.templateforagent.presentation.user.dto.UserCreateRequest;
 import com.gjaku1031.templateforagent.presentation.user.dto.UserResponse;
@@ -53,7 +54,21 @@ public interface UserApiDocs {
     })
     ResponseEntity<Void> deleteUser(@PathVariable("id") Long id);
 
-    @Operation(summary = "List users (paged)")
+    @Operation(summary = "Revoke user sessions", description = "관리자 전용, 대상 사용자의 모든 토큰 폐기")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "OK")
+    })
+    ResponseEntity<Void> revokeSessions(@PathVariable("id") Long id);
+
+    @Operation(summary = "List users (cursor)", description = "응답의 nextCursor를 after로 전달해 다음 페이지 조회(카운트 없음). size는 1~100")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "OK", content = @Content(mediaType = "application/json",
+                    examples = @ExampleObject(name = "users-cursor", value = "{\\n  \\\"content\\\": [], \\\"size\\\": 20, \\\"hasNext\\\": false, \\\"nextCursor\\\": null\\n}")))
+    })
+    ResponseEntity<CursorResponse<UserResponse>> listUsersByCursor(@RequestParam(name = "after", required = false) String after,
+                                                                   @RequestParam(name = "size", defaultValue = "20") int size);
+
+    @Operation(summary = "List users (paged)", description = "기존 오프셋 페이지(총 개수 포함). 깊은 페이지는 /api/users/cursor 사용 권장")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "OK", content = @Content(mediaType = "application/json",
                     examples = @ExampleObject(name = "users-page", value = "{\\n  \\\"content\\\": [], \\\"pageable\\\": { \\\"pageNumber\\\": 0, \\\"pageSize\\\": 20 }\\n}")))
@@ -47,6 +47,13 @@ public interface UserAuthApiDocs {
     @SecurityRequirement(name = "bearerAuth")
     ResponseEntity<Void> logout(@Parameter(hidden = true) String authorization);
 
+    @Operation(summary = "Logout all sessions", description = "현재 사용자의 모든 액세스/리프레시 토큰 폐기")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "OK")
+    })
+    @SecurityRequirement(name = "bearerAuth")
+    ResponseEntity<Void> logoutAll(@Parameter(hidden = true) Long userId);
+
     @Operation(summary = "Me", description = "현재 로그인한 사용자 정보")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "OK", content = @Content(schema = @Schema(implementation = UserResponse.class)))
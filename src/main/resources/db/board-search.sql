@@ -0,0 +1,14 @@
+-- 게시글 검색 인덱스 (PostgreSQL)
+-- ddl-auto로 생성되지 않으므로 배포 시 한 번 적용한다. 모든 구문은 재실행해도 안전하다.
+
+-- app.board.search.engine=postgres : 전문 검색(tsvector) 표현식 GIN 인덱스
+-- 표현식은 PostgresBoardTextSearch.DOCUMENT 와 정확히 같아야 한다.
+CREATE INDEX IF NOT EXISTS idx_board_fts
+    ON board USING GIN (to_tsvector('simple', title || ' ' || content));
+
+-- app.board.search.engine=like : lower(...) LIKE '%kw%' 부분 문자열 검색용 trigram 인덱스
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_board_title_trgm
+    ON board USING GIN (lower(title) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_board_content_trgm
+    ON board USING GIN (lower(content) gin_trgm_ops);
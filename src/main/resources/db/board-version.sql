@@ -0,0 +1,3 @@
+-- 게시글 낙관적 동시성 제어 컬럼 (PostgreSQL)
+-- ddl-auto로 생성되지 않는 기존 테이블에 배포 시 한 번 적용한다. 재실행해도 안전하다.
+ALTER TABLE board ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
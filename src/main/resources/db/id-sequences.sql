@@ -0,0 +1,9 @@
+-- IDENTITY → 풀링 시퀀스 전환 (PostgreSQL)
+-- 애플리케이션을 모두 내린 상태에서 한 번 적용한다(실행 중인 노드가 미리 할당받은 id 구간과 겹치지 않도록).
+-- INCREMENT BY는 엔티티의 allocationSize(50)와 같아야 한다.
+-- 기존 id와 겹치지 않도록 다음 값을 현재 최댓값 + 50으로 맞춘다(풀링 옵티마이저는 [값-49, 값] 구간을 사용).
+CREATE SEQUENCE IF NOT EXISTS board_seq INCREMENT BY 50;
+SELECT setval('board_seq', COALESCE((SELECT MAX(id) FROM board), 0) + 50, false);
+
+CREATE SEQUENCE IF NOT EXISTS users_seq INCREMENT BY 50;
+SELECT setval('users_seq', COALESCE((SELECT MAX(id) FROM users), 0) + 50, false);
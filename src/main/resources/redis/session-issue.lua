@@ -0,0 +1,29 @@
+-- 새 리프레시 세션 등록(사용자별 해시, 필드 = sid, 값 = "jti|만료epochMillis")
+-- KEYS[1] sessions:<userId>
+-- ARGV[1] sid, ARGV[2] jti, ARGV[3] 만료 epochMillis, ARGV[4] 현재 epochMillis,
+-- ARGV[5] 사용자당 최대 세션 수, ARGV[6] 해시 키 TTL(ms)
+-- 반환: 한도 초과로 밀려난 세션 수
+local now = tonumber(ARGV[4])
+local max = tonumber(ARGV[5])
+local entries = redis.call('HGETALL', KEYS[1])
+local live = {}
+for i = 1, #entries, 2 do
+    local sid, value = entries[i], entries[i + 1]
+    local exp = tonumber(string.match(value, '|(%d+)$'))
+    if exp == nil or exp <= now then
+        redis.call('HDEL', KEYS[1], sid)
+    elseif sid ~= ARGV[1] then
+        live[#live + 1] = { sid, exp }
+    end
+end
+local evicted = 0
+if #live >= max then
+    table.sort(live, function(a, b) return a[2] < b[2] end)
+    for i = 1, #live - max + 1 do
+        redis.call('HDEL', KEYS[1], live[i][1])
+        evicted = evicted + 1
+    end
+end
+redis.call('HSET', KEYS[1], ARGV[1], ARGV[2] .. '|' .. ARGV[3])
+redis.call('PEXPIRE', KEYS[1], ARGV[6])
+return evicted
@@ -0,0 +1,8 @@
+-- 로그아웃: 액세스 토큰 블랙리스트 등록(값은 만료 epochMillis) + 브로드캐스트 + 리프레시 세션 삭제
+-- KEYS[1] sessions:<userId>, KEYS[2] blacklist:<accessJti>
+-- ARGV[1] sid, ARGV[2] 액세스 jti, ARGV[3] 액세스 만료 epochMillis, ARGV[4] 블랙리스트 TTL(ms), ARGV[5] 블랙리스트 채널
+if tonumber(ARGV[4]) > 0 then
+    redis.call('SET', KEYS[2], ARGV[3], 'PX', ARGV[4])
+    redis.call('PUBLISH', ARGV[5], ARGV[2] .. '|' .. ARGV[3])
+end
+return redis.call('HDEL', KEYS[1], ARGV[1])
@@ -0,0 +1,36 @@
+-- 리프레시 토큰 회전(compare-and-swap + 직전 토큰 유예)
+-- KEYS[1] sessions:<userId>, KEYS[2] sessions:<userId>:rotated:<sid>(직전 회전 기록 "이전jti|현재토큰")
+-- ARGV[1] sid, ARGV[2] 제시된 jti, ARGV[3] 새 jti, ARGV[4] 새 만료 epochMillis,
+-- ARGV[5] 현재 epochMillis, ARGV[6] 해시 키 TTL(ms), ARGV[7] 새 리프레시 토큰, ARGV[8] 유예 시간(ms)
+-- 반환: OK | MISSING(세션 없음/만료) | GRACE|<현재 토큰>(유예 시간 안의 직전 토큰) | REUSED(더 오래된 토큰 재사용, 세션 폐기)
+local value = redis.call('HGET', KEYS[1], ARGV[1])
+if not value then
+    return 'MISSING'
+end
+local sep = string.find(value, '|', 1, true)
+local jti = string.sub(value, 1, sep - 1)
+local exp = tonumber(string.sub(value, sep + 1))
+if exp == nil or exp <= tonumber(ARGV[5]) then
+    redis.call('HDEL', KEYS[1], ARGV[1])
+    redis.call('DEL', KEYS[2])
+    return 'MISSING'
+end
+if jti ~= ARGV[2] then
+    -- 동시에 들어온 정상 리프레시: 직전 jti면 방금 회전된 현재 토큰을 그대로 돌려줌
+    local rotated = redis.call('GET', KEYS[2])
+    if rotated then
+        local at = string.find(rotated, '|', 1, true)
+        if string.sub(rotated, 1, at - 1) == ARGV[2] then
+            return 'GRACE|' .. string.sub(rotated, at + 1)
+        end
+    end
+    redis.call('HDEL', KEYS[1], ARGV[1])
+    redis.call('DEL', KEYS[2])
+    return 'REUSED'
+end
+redis.call('HSET', KEYS[1], ARGV[1], ARGV[3] .. '|' .. ARGV[4])
+redis.call('PEXPIRE', KEYS[1], ARGV[6])
+if tonumber(ARGV[8]) > 0 then
+    redis.call('SET', KEYS[2], ARGV[2] .. '|' .. ARGV[7], 'PX', ARGV[8])
+end
+return 'OK'
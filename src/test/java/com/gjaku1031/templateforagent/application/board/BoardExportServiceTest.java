@@ -0,0 +1,81 @@
+package com.gjaku1031.templateforagent.application.board;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.gjaku1031.templateforagent.domain.board.BoardExportRow;
+import com.gjaku1031.templateforagent.domain.board.BoardRepository;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+
+class BoardExportServiceTest {
+
+    private static final LocalDateTime AT = LocalDateTime.of(2026, 1, 2, 3, 4, 5);
+
+    private final BoardRepository boardRepository = mock(BoardRepository.class);
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private final BoardExportService service = new BoardExportService(boardRepository, objectMapper);
+
+    @Test
+    void csvQuotesFieldsWithDelimitersQuotesAndLineBreaks() throws Exception {
+        when(boardRepository.streamForExport(null, null)).thenReturn(Stream.of(
+                new BoardExportRow(1L, "plain", "a,b", 7L, "alice", AT, null),
+                new BoardExportRow(2L, "say \"hi\"", "line1\nline2\r\nline3", 7L, "bob,jr", AT, AT)));
+
+        String csv = export(BoardExportFormat.CSV, 2);
+
+        assertThat(csv).isEqualTo(
+                "id,title,content,authorId,authorUsername,createdAt,updatedAt\r\n"
+                        + "1,plain,\"a,b\",7,alice,2026-01-02T03:04:05,\r\n"
+                        + "2,\"say \"\"hi\"\"\",\"line1\nline2\r\nline3\",7,\"bob,jr\",2026-01-02T03:04:05,2026-01-02T03:04:05\r\n");
+    }
+
+    @Test
+    void csvLeavesNullTextFieldsEmpty() throws Exception {
+        when(boardRepository.streamForExport(null, null)).thenReturn(Stream.of(
+                new BoardExportRow(3L, null, null, 7L, null, null, null)));
+
+        assertThat(export(BoardExportFormat.CSV, 1)).endsWith("\r\n3,,,7,,,\r\n");
+    }
+
+    @Test
+    void ndjsonWritesOneObjectPerLineEvenWhenContentHasLineBreaks() throws Exception {
+        when(boardRepository.streamForExport(null, null)).thenReturn(Stream.of(
+                new BoardExportRow(1L, "t1", "multi\nline\r\ncontent", 7L, "alice", AT, null),
+                new BoardExportRow(2L, "t2", "{\"json\":true}", 8L, "bob", AT, AT)));
+
+        String ndjson = export(BoardExportFormat.NDJSON, 2);
+
+        assertThat(ndjson).endsWith("\n");
+        String[] lines = ndjson.split("\n", -1);
+        assertThat(lines).hasSize(3);
+        assertThat(lines[2]).isEmpty();
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("id").asLong()).isEqualTo(1L);
+        assertThat(first.get("content").asText()).isEqualTo("multi\nline\r\ncontent");
+        assertThat(objectMapper.readTree(lines[1]).get("content").asText()).isEqualTo("{\"json\":true}");
+    }
+
+    @Test
+    void emptyResultStillWritesCsvHeaderButNoNdjsonLines() throws Exception {
+        when(boardRepository.streamForExport(null, null)).thenReturn(Stream.empty());
+        assertThat(export(BoardExportFormat.CSV, 0))
+                .isEqualTo("id,title,content,authorId,authorUsername,createdAt,updatedAt\r\n");
+
+        when(boardRepository.streamForExport(null, null)).thenReturn(Stream.empty());
+        assertThat(export(BoardExportFormat.NDJSON, 0)).isEmpty();
+    }
+
+    private String export(BoardExportFormat format, long expectedRows) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertThat(service.export(null, null, format, out)).isEqualTo(expectedRows);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
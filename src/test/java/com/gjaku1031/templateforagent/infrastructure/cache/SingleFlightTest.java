@@ -0,0 +1,153 @@
+package com.gjaku1031.templateforagent.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.gjaku1031.templateforagent.common.error.ErrorCode;
+import com.gjaku1031.templateforagent.common.error.exception.BusinessException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SingleFlightTest {
+
+    private static final Duration WAIT = Duration.ofSeconds(5);
+
+    private final SingleFlight<Long, String> singleFlight = new SingleFlight<>();
+    private final ExecutorService pool = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = pool.submit(() -> singleFlight.execute(1L, () -> {
+            loads.incrementAndGet();
+            leaderStarted.countDown();
+            await(release);
+            return "board-1";
+        }, WAIT));
+        assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        List<Future<String>> waiters = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            waiters.add(pool.submit(() -> singleFlight.execute(1L, () -> {
+                loads.incrementAndGet();
+                return "duplicate";
+            }, WAIT)));
+        }
+        waitUntilQueued(waiters);
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("board-1");
+        for (Future<String> waiter : waiters) {
+            assertThat(waiter.get(5, TimeUnit.SECONDS)).isEqualTo("board-1");
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    void waiterTimesOutWithServiceUnavailable() throws Exception {
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = pool.submit(() -> singleFlight.execute(1L, () -> {
+            leaderStarted.countDown();
+            await(release);
+            return "late";
+        }, WAIT));
+        assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> singleFlight.execute(1L, () -> "unused", Duration.ofMillis(50)))
+                .isInstanceOfSatisfying(BusinessException.class, e -> {
+                    assertThat(e.getErrorCode()).isEqualTo(ErrorCode.SERVICE_UNAVAILABLE);
+                    assertThat(e.getErrorCode().getCode()).isEqualTo("E5030");
+                });
+
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("late");
+    }
+
+    @Test
+    void loaderFailureReachesLeaderAndWaiters() throws Exception {
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        IllegalStateException failure = new IllegalStateException("db down");
+
+        Future<String> leader = pool.submit(() -> singleFlight.execute(1L, () -> {
+            leaderStarted.countDown();
+            await(release);
+            throw failure;
+        }, WAIT));
+        assertThat(leaderStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<String> waiter = pool.submit(() -> singleFlight.execute(1L, () -> "unused", WAIT));
+        waitUntilQueued(List.of(waiter));
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCause(failure);
+        assertThatThrownBy(() -> waiter.get(5, TimeUnit.SECONDS)).hasCause(failure);
+        // 실패는 캐시되지 않으므로 다음 호출은 새로 로딩
+        assertThat(singleFlight.execute(1L, () -> "retry", WAIT)).isEqualTo("retry");
+    }
+
+    @Test
+    void executeAsyncSkipsWhenLoadInFlight() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        assertThat(singleFlight.executeAsync(1L, () -> {
+            await(release);
+            return "refreshed";
+        }, pool)).isTrue();
+
+        assertThat(singleFlight.executeAsync(1L, () -> "second", pool)).isFalse();
+
+        release.countDown();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    void rejectedAsyncSubmissionFreesKey() {
+        boolean started = singleFlight.executeAsync(1L, () -> "never", task -> {
+            throw new RejectedExecutionException("full");
+        });
+
+        assertThat(started).isFalse();
+        assertThat(singleFlight.inFlightCount()).isZero();
+        assertThat(singleFlight.execute(1L, () -> "loaded", WAIT)).isEqualTo("loaded");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            if (!latch.await(5, TimeUnit.SECONDS)) throw new IllegalStateException("latch timeout");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 대기자가 진행 중인 future에 합류할 시간을 줌(합류 전 리더가 끝나면 대기자가 새 리더가 되어 검증이 무의미해짐)
+     */
+    private static void waitUntilQueued(List<? extends Future<?>> waiters) throws InterruptedException {
+        Thread.sleep(100);
+        for (Future<?> waiter : waiters) {
+            assertThat(waiter.isDone()).isFalse();
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.gjaku1031.templateforagent.infrastructure.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.gjaku1031.templateforagent.infrastructure.security.AuthenticatedUser;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ReplicaRoutingDataSourceTest {
+
+    private static final Duration NO_PINNING = Duration.ZERO;
+
+    private final Connection primaryConnection = mock(Connection.class);
+    private final DataSource primary = mock(DataSource.class);
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void writesAndNonTransactionalReadsGoToPrimary() throws SQLException {
+        Connection replicaConnection = mock(Connection.class);
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(dataSource(replicaConnection)), NO_PINNING);
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void readOnlyTransactionsRoundRobinAcrossReplicas() throws SQLException {
+        Connection first = mock(Connection.class);
+        Connection second = mock(Connection.class);
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary,
+                List.of(dataSource(first), dataSource(second)), NO_PINNING);
+        readOnly();
+
+        assertThat(List.of(routing.getConnection(), routing.getConnection(), routing.getConnection(), routing.getConnection()))
+                .containsExactly(first, second, first, second);
+    }
+
+    @Test
+    void failingReplicaIsExcludedAndReadFallsBackToPrimary() throws SQLException {
+        DataSource broken = mock(DataSource.class);
+        when(broken.getConnection()).thenThrow(new SQLException("connection refused"));
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(broken), NO_PINNING);
+        readOnly();
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        // 제외된 뒤에는 헬스 체크 전까지 다시 시도하지 않음
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        verify(broken, times(1)).getConnection();
+    }
+
+    @Test
+    void failingReplicaIsSkippedInFavourOfTheNextHealthyOne() throws SQLException {
+        DataSource broken = mock(DataSource.class);
+        when(broken.getConnection()).thenThrow(new SQLException("connection refused"));
+        Connection healthy = mock(Connection.class);
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(broken, dataSource(healthy)), NO_PINNING);
+        readOnly();
+
+        assertThat(routing.getConnection()).isSameAs(healthy);
+        assertThat(routing.getConnection()).isSameAs(healthy);
+    }
+
+    @Test
+    void healthCheckBringsARecoveredReplicaBack() throws SQLException {
+        Connection recovered = mock(Connection.class);
+        when(recovered.isValid(anyInt())).thenReturn(true);
+        DataSource flaky = mock(DataSource.class);
+        when(flaky.getConnection())
+                .thenThrow(new SQLException("connection refused"))
+                .thenReturn(recovered);
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(flaky), NO_PINNING);
+        readOnly();
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+        routing.checkHealth();
+
+        assertThat(routing.getConnection()).isSameAs(recovered);
+    }
+
+    @Test
+    void healthCheckExcludesAnInvalidReplica() throws SQLException {
+        Connection invalid = mock(Connection.class);
+        when(invalid.isValid(anyInt())).thenReturn(false);
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(dataSource(invalid)), NO_PINNING);
+
+        routing.checkHealth();
+        readOnly();
+
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    void readsArePinnedToPrimaryForTheWriterWithinTheWindow() throws SQLException {
+        Connection replicaConnection = mock(Connection.class);
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(dataSource(replicaConnection)),
+                Duration.ofMinutes(1));
+
+        signIn(1L);
+        routing.getConnection(); // 쓰기
+        readOnly();
+        assertThat(routing.getConnection()).isSameAs(primaryConnection);
+
+        signIn(2L);
+        assertThat(routing.getConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    void readsAreNotPinnedWhenTheWindowIsDisabled() throws SQLException {
+        Connection replicaConnection = mock(Connection.class);
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(dataSource(replicaConnection)), NO_PINNING);
+
+        signIn(1L);
+        routing.getConnection();
+        readOnly();
+
+        assertThat(routing.getConnection()).isSameAs(replicaConnection);
+    }
+
+    @Test
+    void perCallCredentialsAreRoutedAndPassedToTheChosenTarget() throws SQLException {
+        Connection replicaConnection = mock(Connection.class);
+        DataSource replica = mock(DataSource.class);
+        when(replica.getConnection("reader", "secret")).thenReturn(replicaConnection);
+        Connection primaryWithCredentials = mock(Connection.class);
+        when(primary.getConnection("reader", "secret")).thenReturn(primaryWithCredentials);
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, List.of(replica), NO_PINNING);
+
+        assertThat(routing.getConnection("reader", "secret")).isSameAs(primaryWithCredentials);
+        readOnly();
+        assertThat(routing.getConnection("reader", "secret")).isSameAs(replicaConnection);
+    }
+
+    @Test
+    void readOnlyTransactionsQueryTheReplicaDatabase() {
+        // 인메모리 H2 두 개를 primary/복제본 대역으로 사용, 실제 구성처럼 LazyConnectionDataSourceProxy로 감쌈
+        DataSource primaryDb = h2("routing-primary");
+        DataSource replicaDb = h2("routing-replica");
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primaryDb, List.of(replicaDb), NO_PINNING);
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        TransactionTemplate readWrite = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        TransactionTemplate readOnly = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        readOnly.setReadOnly(true);
+
+        String fromReadOnly = readOnly.execute(status -> jdbc.queryForObject("select name from node", String.class));
+        String fromReadWrite = readWrite.execute(status -> jdbc.queryForObject("select name from node", String.class));
+
+        assertThat(fromReadOnly).isEqualTo("routing-replica");
+        assertThat(fromReadWrite).isEqualTo("routing-primary");
+    }
+
+    private static DataSource dataSource(Connection connection) throws SQLException {
+        DataSource dataSource = mock(DataSource.class);
+        when(dataSource.getConnection()).thenReturn(connection);
+        return dataSource;
+    }
+
+    private static DataSource h2(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("create table if not exists node (name varchar(32))");
+        jdbc.update("delete from node");
+        jdbc.update("insert into node (name) values (?)", name);
+        return dataSource;
+    }
+
+    private static void readOnly() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+    }
+
+    private static void signIn(Long userId) {
+        AuthenticatedUser user = new AuthenticatedUser(userId, "user" + userId, "ROLE_USER");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+}
@@ -0,0 +1,78 @@
+package com.gjaku1031.templateforagent.infrastructure.search.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BoardInvertedIndexTest {
+
+    private final BoardInvertedIndex index = new BoardInvertedIndex();
+
+    @BeforeEach
+    void setUp() {
+        index.upsert(1, "Spring Boot", "JPA 게시글 작성");
+        index.upsert(2, "Spring Security", "JWT 필터");
+        index.upsert(3, "Redis cache", "게시글을 캐시");
+    }
+
+    @Test
+    void wordsAreAndedAndResultsAreNewestFirst() {
+        assertThat(index.searchBefore("spring", Long.MAX_VALUE, 10)).containsExactly(2L, 1L);
+        assertThat(index.searchBefore("spring jwt", Long.MAX_VALUE, 10)).containsExactly(2L);
+        assertThat(index.searchBefore("게시글", Long.MAX_VALUE, 10)).containsExactly(3L, 1L);
+    }
+
+    @Test
+    void orClausesAreUnioned() {
+        assertThat(index.searchBefore("jwt OR redis", Long.MAX_VALUE, 10)).containsExactly(3L, 2L);
+        assertThat(index.searchBefore("jwt | jpa", Long.MAX_VALUE, 10)).containsExactly(2L, 1L);
+        assertThat(index.count("jwt OR redis OR jpa")).isEqualTo(3);
+    }
+
+    @Test
+    void cursorAndLimitPage() {
+        assertThat(index.searchBefore("spring", Long.MAX_VALUE, 1)).containsExactly(2L);
+        assertThat(index.searchBefore("spring", 2, 10)).containsExactly(1L);
+    }
+
+    @Test
+    void upsertReplacesPreviousTerms() {
+        index.upsert(2, "Kafka", "consumer");
+
+        assertThat(index.searchBefore("spring", Long.MAX_VALUE, 10)).containsExactly(1L);
+        assertThat(index.searchBefore("kafka", Long.MAX_VALUE, 10)).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    void removeDropsDocumentFromAllPostings() {
+        index.remove(1);
+
+        assertThat(index.searchBefore("spring", Long.MAX_VALUE, 10)).containsExactly(2L);
+        assertThat(index.count("jpa")).isZero();
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void idsNotInListsIndexedIdsMissingFromLiveSet() {
+        assertThat(index.idsNotIn(new long[]{1, 3}, 2)).containsExactly(2L);
+    }
+
+    @Test
+    void snapshotRestoresPostingsAndForwardIndex(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("index.bin");
+        index.writeSnapshot(file, 1_234L);
+
+        BoardInvertedIndex restored = new BoardInvertedIndex();
+        long takenAt = restored.readSnapshot(file);
+        restored.remove(3);
+
+        assertThat(takenAt).isEqualTo(1_234L);
+        assertThat(restored.size()).isEqualTo(2);
+        assertThat(restored.searchBefore("게시글", Long.MAX_VALUE, 10)).containsExactly(1L);
+    }
+}
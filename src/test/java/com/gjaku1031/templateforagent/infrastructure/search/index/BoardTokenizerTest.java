@@ -0,0 +1,47 @@
+package com.gjaku1031.templateforagent.infrastructure.search.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class BoardTokenizerTest {
+
+    @Test
+    void splitsLatinWordsOnNonAlphanumericsAndLowercases() {
+        assertThat(BoardTokenizer.terms("Hello, World! 42 hello"))
+                .containsExactly("hello", "world", "42");
+    }
+
+    @Test
+    void splitsHangulRunsIntoBigrams() {
+        assertThat(BoardTokenizer.terms("게시글을")).containsExactly("게시", "시글", "글을");
+    }
+
+    @Test
+    void queryBigramsAreSubsetOfInflectedWord() {
+        assertThat(BoardTokenizer.terms("게시글을")).containsAll(BoardTokenizer.terms("게시글"));
+    }
+
+    @Test
+    void keepsSingleCjkCharacterAsTerm() {
+        assertThat(BoardTokenizer.terms("글")).containsExactly("글");
+    }
+
+    @Test
+    void separatesLatinAndCjkRunsWithoutWhitespace() {
+        assertThat(BoardTokenizer.terms("JPA게시판")).containsExactly("jpa", "게시", "시판");
+    }
+
+    @Test
+    void handlesSupplementaryCharactersAsWholeCodePoints() {
+        // U+20000(CJK 확장 B)는 서로게이트 쌍, 바이그램이 쌍을 가르지 않아야 함
+        String text = "𠀀가";
+        assertThat(BoardTokenizer.terms(text)).containsExactly(text);
+    }
+
+    @Test
+    void nullOrPunctuationOnlyYieldsNoTerms() {
+        assertThat(BoardTokenizer.terms(null)).isEmpty();
+        assertThat(BoardTokenizer.terms(" ,.!? ")).isEmpty();
+    }
+}
@@ -0,0 +1,78 @@
+package com.gjaku1031.templateforagent.infrastructure.search.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+
+class LongPostingsTest {
+
+    @Test
+    void keepsIdsSortedAndUniqueRegardlessOfInsertOrder() {
+        LongPostings postings = postingsOf(5, 1, 9, 3, 5, 7, 1);
+
+        assertThat(toArray(postings)).containsExactly(1, 3, 5, 7, 9);
+    }
+
+    @Test
+    void removeAndContains() {
+        LongPostings postings = postingsOf(1, 3, 5);
+
+        assertThat(postings.remove(3)).isTrue();
+        assertThat(postings.remove(4)).isFalse();
+        assertThat(postings.contains(3)).isFalse();
+        assertThat(postings.contains(5)).isTrue();
+        assertThat(toArray(postings)).containsExactly(1, 5);
+    }
+
+    @Test
+    void lastIndexBelowIsExclusiveOfCursor() {
+        LongPostings postings = postingsOf(10, 20, 30);
+
+        assertThat(postings.lastIndexBelow(30)).isEqualTo(1);
+        assertThat(postings.lastIndexBelow(25)).isEqualTo(1);
+        assertThat(postings.lastIndexBelow(10)).isEqualTo(-1);
+        assertThat(postings.lastIndexBelow(Long.MAX_VALUE)).isEqualTo(2);
+    }
+
+    @Test
+    void roundTripsThroughDeltaVarintEncoding() throws IOException {
+        // 1바이트/다바이트 varint 델타와 큰 id를 모두 포함
+        LongPostings postings = postingsOf(1, 2, 130, 20_000, 5_000_000_000L);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        postings.writeTo(new DataOutputStream(bytes));
+
+        LongPostings read = LongPostings.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertThat(toArray(read)).containsExactly(1, 2, 130, 20_000, 5_000_000_000L);
+        read.add(6_000_000_000L);
+        assertThat(read.size()).isEqualTo(6);
+    }
+
+    @Test
+    void emptyPostingsRoundTrip() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new LongPostings().writeTo(new DataOutputStream(bytes));
+
+        LongPostings read = LongPostings.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertThat(read.size()).isZero();
+        assertThat(read.lastIndexBelow(100)).isEqualTo(-1);
+    }
+
+    private static LongPostings postingsOf(long... ids) {
+        LongPostings postings = new LongPostings();
+        for (long id : ids) postings.add(id);
+        return postings;
+    }
+
+    private static long[] toArray(LongPostings postings) {
+        long[] ids = new long[postings.size()];
+        for (int i = 0; i < ids.length; i++) ids[i] = postings.get(i);
+        return ids;
+    }
+}
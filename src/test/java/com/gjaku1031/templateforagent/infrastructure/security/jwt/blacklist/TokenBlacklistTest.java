@@ -0,0 +1,95 @@
+package com.gjaku1031.templateforagent.infrastructure.security.jwt.blacklist;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.gjaku1031.templateforagent.infrastructure.config.JwtConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+class TokenBlacklistTest {
+
+    private static final Duration BUCKET_WIDTH = Duration.ofMinutes(5);
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ValueOperations<String, String> values = mock(ValueOperations.class);
+    private TokenBlacklist blacklist;
+
+    @BeforeEach
+    void setUp() {
+        JwtConfig jwtConfig = new JwtConfig();
+        jwtConfig.getBlacklist().setBucketWidth(BUCKET_WIDTH);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        blacklist = new TokenBlacklist(redisTemplate, jwtConfig, mock(RedisMessageListenerContainer.class),
+                new SimpleMeterRegistry());
+    }
+
+    @Test
+    void resyncPlacesJtiInBucketOfExactExpiry() {
+        // 만료가 버킷 경계 바로 뒤: TTL로 역산하면 앞 버킷이 선택되는 위치
+        Instant expiresAt = upcomingBucketBoundary().plusMillis(1);
+        stored("blacklist:jti-1", Long.toString(expiresAt.toEpochMilli()));
+
+        blacklist.resync();
+
+        assertThat(blacklist.isRevoked("jti-1", expiresAt)).isTrue();
+        verify(redisTemplate, never()).getExpire(anyString(), any(TimeUnit.class));
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    void resyncCoversNeighbouringBucketForLegacyValues() {
+        Instant expiresAt = upcomingBucketBoundary().plusMillis(1);
+        stored("blacklist:jti-legacy", "true");
+        // 기록 시점과 SCAN 시점 차이로 TTL 역산 값이 경계 앞 버킷에 떨어지는 경우
+        long driftedTtl = Duration.between(Instant.now(), expiresAt).toMillis() - 1_000;
+        when(redisTemplate.getExpire("blacklist:jti-legacy", TimeUnit.MILLISECONDS)).thenReturn(driftedTtl);
+
+        blacklist.resync();
+
+        assertThat(blacklist.isRevoked("jti-legacy", expiresAt)).isTrue();
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @Test
+    void unrevokedTokenIsAnsweredLocallyAfterResync() {
+        Instant expiresAt = upcomingBucketBoundary().plusMillis(1);
+        stored("blacklist:jti-1", Long.toString(expiresAt.toEpochMilli()));
+
+        blacklist.resync();
+
+        assertThat(blacklist.isRevoked("jti-other", expiresAt.plus(BUCKET_WIDTH))).isFalse();
+        verify(redisTemplate, never()).hasKey(anyString());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stored(String key, String value) {
+        Cursor<String> cursor = mock(Cursor.class);
+        when(cursor.hasNext()).thenReturn(true, false);
+        when(cursor.next()).thenReturn(key);
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+        when(values.multiGet(List.of(key))).thenReturn(List.of(value));
+    }
+
+    private static Instant upcomingBucketBoundary() {
+        long width = BUCKET_WIDTH.toMillis();
+        return Instant.ofEpochMilli((System.currentTimeMillis() / width + 2) * width);
+    }
+}
@@ -0,0 +1,186 @@
+package com.gjaku1031.templateforagent.infrastructure.security.jwt.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.github.fppt.jedismock.RedisServer;
+import com.gjaku1031.templateforagent.infrastructure.config.JwtConfig;
+import com.gjaku1031.templateforagent.infrastructure.security.jwt.IssuedToken;
+import com.gjaku1031.templateforagent.infrastructure.security.jwt.blacklist.TokenBlacklist;
+import com.gjaku1031.templateforagent.infrastructure.security.jwt.session.RefreshSessionStore.Rotation;
+import com.gjaku1031.templateforagent.infrastructure.security.jwt.session.RefreshSessionStore.RotationResult;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+/**
+ * 세션 Lua 스크립트(등록/회전/로그아웃)를 jedis-mock 인프로세스 Redis에서 실제로 실행해 검증
+ */
+class RefreshSessionStoreTest {
+
+    private static final long USER_ID = 42L;
+    private static final String SESSIONS = RefreshSessionStore.KEY_PREFIX + USER_ID;
+
+    private static RedisServer server;
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, String> redisTemplate;
+
+    private final TokenBlacklist tokenBlacklist = mock(TokenBlacklist.class);
+    private final JwtConfig jwtConfig = new JwtConfig();
+    private RefreshSessionStore store;
+
+    @BeforeAll
+    static void startRedis() throws IOException {
+        server = RedisServer.newRedisServer();
+        server.start();
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(server.getHost(), server.getBindPort()));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setDefaultSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopRedis() throws IOException {
+        connectionFactory.destroy();
+        server.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        jwtConfig.setRefreshTokenExpiration(Duration.ofDays(14).toMillis());
+        jwtConfig.getSession().setMaxPerUser(2);
+        jwtConfig.getSession().setRotationGrace(Duration.ofSeconds(10));
+        store = new RefreshSessionStore(redisTemplate, tokenBlacklist, jwtConfig);
+    }
+
+    @Test
+    void openEvictsEarliestExpiringSessionOverTheLimit() {
+        store.open(USER_ID, "sid-a", token("a0", Duration.ofHours(1)));
+        store.open(USER_ID, "sid-b", token("b0", Duration.ofHours(3)));
+        store.open(USER_ID, "sid-c", token("c0", Duration.ofHours(2)));
+
+        assertThat(sessions()).containsOnlyKeys("sid-b", "sid-c");
+        assertThat(redisTemplate.getExpire(SESSIONS)).isPositive();
+    }
+
+    @Test
+    void openDropsExpiredSessions() {
+        store.open(USER_ID, "sid-old", token("old", Duration.ofMillis(-1)));
+        store.open(USER_ID, "sid-new", token("new", Duration.ofHours(1)));
+
+        assertThat(sessions()).containsOnlyKeys("sid-new");
+    }
+
+    @Test
+    void rotateSwapsCurrentJti() {
+        store.open(USER_ID, "sid", token("r0", Duration.ofHours(1)));
+
+        RotationResult result = store.rotate(USER_ID, "sid", "r0", token("r1", Duration.ofHours(1)));
+
+        assertThat(result.rotation()).isEqualTo(Rotation.ROTATED);
+        assertThat(result.refreshToken()).isEqualTo("token-r1");
+        assertThat(sessions().get("sid")).startsWith("r1|");
+        assertThat(store.rotate(USER_ID, "sid", "r1", token("r2", Duration.ofHours(1))).rotation())
+                .isEqualTo(Rotation.ROTATED);
+    }
+
+    @Test
+    void concurrentRefreshWithPreviousJtiGetsCurrentTokenWithinGrace() {
+        store.open(USER_ID, "sid", token("r0", Duration.ofHours(1)));
+        store.rotate(USER_ID, "sid", "r0", token("r1", Duration.ofHours(1)));
+
+        // 같은 클라이언트의 병렬 요청이 한발 늦게 r0을 제시
+        RotationResult late = store.rotate(USER_ID, "sid", "r0", token("r1-late", Duration.ofHours(1)));
+
+        assertThat(late.rotation()).isEqualTo(Rotation.GRACE);
+        assertThat(late.refreshToken()).isEqualTo("token-r1");
+        assertThat(sessions().get("sid")).startsWith("r1|");
+    }
+
+    @Test
+    void olderJtiIsTreatedAsReuseAndRevokesSession() {
+        store.open(USER_ID, "sid", token("r0", Duration.ofHours(1)));
+        store.rotate(USER_ID, "sid", "r0", token("r1", Duration.ofHours(1)));
+        store.rotate(USER_ID, "sid", "r1", token("r2", Duration.ofHours(1)));
+
+        RotationResult replay = store.rotate(USER_ID, "sid", "r0", token("x", Duration.ofHours(1)));
+
+        assertThat(replay.rotation()).isEqualTo(Rotation.REUSED);
+        assertThat(replay.refreshToken()).isNull();
+        assertThat(sessions()).doesNotContainKey("sid");
+        assertThat(store.rotate(USER_ID, "sid", "r2", token("r3", Duration.ofHours(1))).rotation())
+                .isEqualTo(Rotation.MISSING);
+    }
+
+    @Test
+    void previousJtiIsReuseWhenGraceIsDisabled() {
+        jwtConfig.getSession().setRotationGrace(Duration.ZERO);
+        store.open(USER_ID, "sid", token("r0", Duration.ofHours(1)));
+        store.rotate(USER_ID, "sid", "r0", token("r1", Duration.ofHours(1)));
+
+        assertThat(store.rotate(USER_ID, "sid", "r0", token("x", Duration.ofHours(1))).rotation())
+                .isEqualTo(Rotation.REUSED);
+        assertThat(sessions()).doesNotContainKey("sid");
+    }
+
+    @Test
+    void rotateReportsMissingForUnknownOrExpiredSession() {
+        assertThat(store.rotate(USER_ID, "nope", "r0", token("r1", Duration.ofHours(1))).rotation())
+                .isEqualTo(Rotation.MISSING);
+
+        store.open(USER_ID, "sid", token("r0", Duration.ofMillis(-1)));
+        assertThat(store.rotate(USER_ID, "sid", "r0", token("r1", Duration.ofHours(1))).rotation())
+                .isEqualTo(Rotation.MISSING);
+        assertThat(sessions()).doesNotContainKey("sid");
+    }
+
+    @Test
+    void closeBlacklistsAccessTokenWithExpiryAndDropsSession() {
+        store.open(USER_ID, "sid", token("r0", Duration.ofHours(1)));
+        store.open(USER_ID, "other", token("o0", Duration.ofHours(1)));
+        Instant accessExpiresAt = Instant.now().plus(Duration.ofMinutes(15));
+
+        store.close(USER_ID, "sid", "access-1", accessExpiresAt);
+
+        String blacklistKey = TokenBlacklist.KEY_PREFIX + "access-1";
+        assertThat(redisTemplate.opsForValue().get(blacklistKey)).isEqualTo(Long.toString(accessExpiresAt.toEpochMilli()));
+        assertThat(redisTemplate.getExpire(blacklistKey)).isPositive();
+        assertThat(sessions()).containsOnlyKeys("other");
+        verify(tokenBlacklist).markRevoked("access-1", accessExpiresAt);
+    }
+
+    @Test
+    void closeWithExpiredAccessTokenOnlyDropsSession() {
+        store.open(USER_ID, "sid", token("r0", Duration.ofHours(1)));
+
+        store.close(USER_ID, "sid", "access-old", Instant.now().minusSeconds(1));
+
+        assertThat(redisTemplate.hasKey(TokenBlacklist.KEY_PREFIX + "access-old")).isFalse();
+        assertThat(sessions()).isEmpty();
+    }
+
+    private Map<Object, Object> sessions() {
+        return redisTemplate.opsForHash().entries(SESSIONS);
+    }
+
+    private static IssuedToken token(String jti, Duration ttl) {
+        return new IssuedToken("token-" + jti, jti, Instant.now().plus(ttl));
+    }
+}
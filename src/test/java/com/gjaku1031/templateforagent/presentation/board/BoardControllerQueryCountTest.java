@@ -0,0 +1,228 @@
+package com.gjaku1031.templateforagent.presentation.board;
+
+import static com.gjaku1031.templateforagent.support.QueryCountAssertions.queryCount;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.gjaku1031.templateforagent.domain.board.Board;
+import com.gjaku1031.templateforagent.infrastructure.config.StatementBudgetConfig;
+import com.gjaku1031.templateforagent.infrastructure.web.RequestStatementFilter;
+import com.gjaku1031.templateforagent.support.OfflineApiTestSupport;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+
+/**
+ * 게시글 API 엔드포인트별 SQL 문 수(캐시가 비어 있는 첫 요청 기준)
+ * <p>여기서 확인한 값이 {@code app.jpa.statement-budget.endpoints[...]} 예산의 근거.
+ * 생성 요청은 시퀀스 블록(50개)을 미리 할당해 둔 상태에서 측정하므로 블록 소진 시의 {@code nextval} 1건은 포함하지 않음.</p>
+ */
+class BoardControllerQueryCountTest extends OfflineApiTestSupport {
+
+    @Autowired
+    private StatementBudgetConfig budgetConfig;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void createBoardSelectsAuthorAndInserts() throws Exception {
+        newBoard(member(), "warm-up", "allocates the id block");
+
+        mockMvc.perform(post("/api/boards")
+                        .header(AUTHORIZATION, bearer(member()))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"hello\",\"content\":\"world\"}"))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(2));
+    }
+
+    @Test
+    void importChecksEachAuthorOnceAndBatchesInserts() throws Exception {
+        newBoard(member(), "warm-up", "allocates the id block");
+        String ndjson = "{\"title\":\"a\",\"content\":\"1\"}\n"
+                + "{\"title\":\"b\",\"content\":\"2\"}\n"
+                + "{\"title\":\"c\",\"content\":\"3\"}\n";
+
+        mockMvc.perform(post("/api/boards/import")
+                        .header(AUTHORIZATION, bearer(admin()))
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(3))
+                .andExpect(queryCount(2));
+    }
+
+    @Test
+    void importSpanningSeveralIdBlocksIsExemptFromTheBudget() throws Exception {
+        // id 블록(50개) 여러 개 + 청크 여러 개: nextval과 INSERT 배치가 기본 예산(10)을 넘는 규모
+        int rows = 600;
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < rows; i++) ndjson.append("{\"title\":\"t").append(i).append("\",\"content\":\"c\"}\n");
+        double exceededBefore = exceededCount("/api/boards/import");
+
+        // reject 모드에서도 중간 청크 커밋 후 500으로 끊기지 않아야 함
+        StatementBudgetConfig.Mode mode = budgetConfig.getMode();
+        budgetConfig.setMode(StatementBudgetConfig.Mode.REJECT);
+        MvcResult result;
+        try {
+            result = mockMvc.perform(post("/api/boards/import")
+                            .header(AUTHORIZATION, bearer(admin()))
+                            .param("batchSize", "200")
+                            .contentType(MediaType.APPLICATION_NDJSON)
+                            .content(ndjson.toString()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.imported").value(rows))
+                    .andExpect(jsonPath("$.failed").value(0))
+                    .andReturn();
+        } finally {
+            budgetConfig.setMode(mode);
+        }
+
+        assertThat(Integer.parseInt(result.getResponse().getHeader(RequestStatementFilter.HEADER)))
+                .isGreaterThan(budgetConfig.getDefaultBudget());
+        assertThat(exceededCount("/api/boards/import")).isEqualTo(exceededBefore);
+    }
+
+    @Test
+    void exportRunsNoStatementOnTheRequestThread() throws Exception {
+        newBoard(member(), "export", "streamed");
+
+        // 내보내기 쿼리는 비동기 스레드에서 스트리밍되므로 요청 스레드의 집계 구간에는 잡히지 않음
+        MvcResult started = mockMvc.perform(get("/api/boards/export")
+                        .header(AUTHORIZATION, bearer(admin()))
+                        .param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andExpect(queryCount(0))
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("text/csv"));
+    }
+
+    @Test
+    void getBoardLoadsWithAuthorOnceThenServesFromCache() throws Exception {
+        Board board = newBoard(member(), "cached", "body");
+
+        mockMvc.perform(get("/api/boards/{id}", board.getId()).header(AUTHORIZATION, bearer(member())))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(1));
+        mockMvc.perform(get("/api/boards/{id}", board.getId()).header(AUTHORIZATION, bearer(member())))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(0));
+    }
+
+    @Test
+    void updateByOwnerChecksOwnershipAndUpdatesOnce() throws Exception {
+        Board board = newBoard(member(), "before", "body");
+
+        mockMvc.perform(put("/api/boards/{id}", board.getId())
+                        .header(AUTHORIZATION, bearer(member()))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"after\",\"content\":\"body\",\"version\":" + board.getVersion() + "}"))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(2));
+    }
+
+    @Test
+    void updateByAdminSkipsOwnershipLookup() throws Exception {
+        Board board = newBoard(member(), "before", "body");
+
+        mockMvc.perform(put("/api/boards/{id}", board.getId())
+                        .header(AUTHORIZATION, bearer(admin()))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"after\",\"content\":\"body\"}"))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(1));
+    }
+
+    @Test
+    void staleVersionUpdateLooksUpTheCauseOnce() throws Exception {
+        Board board = newBoard(member(), "before", "body");
+
+        mockMvc.perform(put("/api/boards/{id}", board.getId())
+                        .header(AUTHORIZATION, bearer(member()))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"after\",\"content\":\"body\",\"version\":" + (board.getVersion() + 1) + "}"))
+                .andExpect(status().isConflict())
+                .andExpect(queryCount(3));
+    }
+
+    @Test
+    void deleteByOwnerChecksOwnershipAndDeletesOnce() throws Exception {
+        Board board = newBoard(member(), "doomed", "body");
+
+        mockMvc.perform(delete("/api/boards/{id}", board.getId()).header(AUTHORIZATION, bearer(member())))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(2));
+    }
+
+    @Test
+    void deleteByAdminSkipsOwnershipLookup() throws Exception {
+        Board board = newBoard(member(), "doomed", "body");
+
+        mockMvc.perform(delete("/api/boards/{id}", board.getId()).header(AUTHORIZATION, bearer(admin())))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(1));
+    }
+
+    @Test
+    void pageListingRunsContentAndCountQueries() throws Exception {
+        for (int i = 0; i < 3; i++) newBoard(member(), "page " + i, "body");
+
+        // 첫 페이지가 가득 차야 카운트 쿼리가 실행됨
+        mockMvc.perform(get("/api/boards").header(AUTHORIZATION, bearer(member())).param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(2));
+    }
+
+    @Test
+    void keywordPageRunsMatchSummaryAndCountQueries() throws Exception {
+        String keyword = unique("kw");
+        for (int i = 0; i < 3; i++) newBoard(member(), "title " + i, "content with " + keyword + " inside");
+
+        mockMvc.perform(get("/api/boards").header(AUTHORIZATION, bearer(member()))
+                        .param("keyword", keyword).param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(queryCount(3));
+    }
+
+    @Test
+    void cursorListingRunsOneQuery() throws Exception {
+        newBoard(member(), "cursor", "body");
+
+        mockMvc.perform(get("/api/boards/cursor").header(AUTHORIZATION, bearer(member())).param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(1));
+    }
+
+    @Test
+    void keywordCursorRunsMatchAndSummaryQueries() throws Exception {
+        String keyword = unique("kw");
+        for (int i = 0; i < 3; i++) newBoard(member(), keyword + " title " + i, "body");
+
+        mockMvc.perform(get("/api/boards/cursor").header(AUTHORIZATION, bearer(member()))
+                        .param("keyword", keyword).param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(queryCount(2));
+    }
+
+    private double exceededCount(String uri) {
+        Counter counter = meterRegistry.find("hibernate.request.budget.exceeded").tag("uri", uri).counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
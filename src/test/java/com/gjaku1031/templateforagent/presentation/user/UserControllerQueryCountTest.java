@@ -0,0 +1,170 @@
+package com.gjaku1031.templateforagent.presentation.user;
+
+import static com.gjaku1031.templateforagent.support.QueryCountAssertions.queryCount;
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.gjaku1031.templateforagent.application.auth.AuthService;
+import com.gjaku1031.templateforagent.domain.user.User;
+import com.gjaku1031.templateforagent.support.OfflineApiTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+
+/**
+ * 사용자/인증 API 엔드포인트별 SQL 문 수
+ * <p>여기서 확인한 값이 {@code app.jpa.statement-budget.endpoints[...]} 예산의 근거.
+ * 토큰 검증, 세션, 에폭은 Redis에서 처리되므로 인증 자체는 SQL을 쓰지 않음.</p>
+ */
+class UserControllerQueryCountTest extends OfflineApiTestSupport {
+
+    @Autowired
+    private AuthService authService;
+
+    @Test
+    void registerChecksUsernameAndEmailThenInserts() throws Exception {
+        member(); // 사용자 id 블록을 미리 할당
+        String name = unique("reg");
+
+        mockMvc.perform(post("/api/users/register")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json(name, name + "@example.com", PASSWORD)))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(3));
+    }
+
+    @Test
+    void loginLoadsUserOnce() throws Exception {
+        mockMvc.perform(post("/api/users/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"" + member().getUsername() + "\",\"password\":\"" + PASSWORD + "\"}"))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(1));
+    }
+
+    @Test
+    void refreshReloadsUserForCurrentRoleOnly() throws Exception {
+        String refreshToken = authService.login(member().getUsername(), PASSWORD).getRefreshToken();
+
+        mockMvc.perform(post("/api/users/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"" + refreshToken + "\"}"))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(1));
+    }
+
+    @Test
+    void logoutRunsNoStatement() throws Exception {
+        String accessToken = authService.login(member().getUsername(), PASSWORD).getAccessToken();
+
+        mockMvc.perform(post("/api/users/logout").header(AUTHORIZATION, "Bearer " + accessToken))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(0));
+    }
+
+    @Test
+    void logoutAllRunsNoStatement() throws Exception {
+        User user = newUser("ROLE_USER");
+
+        mockMvc.perform(post("/api/users/logout-all").header(AUTHORIZATION, bearer(user)))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(0));
+    }
+
+    @Test
+    void revokeSessionsRunsNoStatement() throws Exception {
+        User user = newUser("ROLE_USER");
+
+        mockMvc.perform(post("/api/users/{id}/revoke-sessions", user.getId()).header(AUTHORIZATION, bearer(admin())))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(0));
+    }
+
+    @Test
+    void createUserChecksUsernameAndEmailThenInserts() throws Exception {
+        admin(); // 사용자 id 블록을 미리 할당
+        String name = unique("new");
+
+        mockMvc.perform(post("/api/users")
+                        .header(AUTHORIZATION, bearer(admin()))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"" + name + "\",\"email\":\"" + name + "@example.com\"}"))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(3));
+    }
+
+    @Test
+    void getUserSelectsOnce() throws Exception {
+        mockMvc.perform(get("/api/users/{id}", member().getId()).header(AUTHORIZATION, bearer(member())))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(1));
+    }
+
+    @Test
+    void updateUserWithNewNameAndEmailChecksBothThenUpdates() throws Exception {
+        User user = newUser("ROLE_USER");
+        String name = unique("renamed");
+
+        mockMvc.perform(put("/api/users/{id}", user.getId())
+                        .header(AUTHORIZATION, bearer(user))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"" + name + "\",\"email\":\"" + name + "@example.com\"}"))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(4));
+    }
+
+    @Test
+    void updateUserWithoutChangesOnlySelects() throws Exception {
+        User user = newUser("ROLE_USER");
+
+        mockMvc.perform(put("/api/users/{id}", user.getId())
+                        .header(AUTHORIZATION, bearer(user))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"" + user.getUsername() + "\",\"email\":\"" + user.getEmail() + "\"}"))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(1));
+    }
+
+    @Test
+    void deleteUserSelectsThenDeletes() throws Exception {
+        User user = newUser("ROLE_USER");
+
+        mockMvc.perform(delete("/api/users/{id}", user.getId()).header(AUTHORIZATION, bearer(admin())))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(2));
+    }
+
+    @Test
+    void cursorListingRunsOneQuery() throws Exception {
+        member();
+
+        mockMvc.perform(get("/api/users/cursor").header(AUTHORIZATION, bearer(admin())).param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(1));
+    }
+
+    @Test
+    void pageListingRunsContentAndCountQueries() throws Exception {
+        member();
+
+        // 첫 페이지가 가득 차야 카운트 쿼리가 실행됨(관리자 + 일반 사용자 2명 이상 존재)
+        mockMvc.perform(get("/api/users").header(AUTHORIZATION, bearer(admin())).param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(2));
+    }
+
+    @Test
+    void meSelectsOnce() throws Exception {
+        mockMvc.perform(get("/api/users/me").header(AUTHORIZATION, bearer(member())))
+                .andExpect(status().isOk())
+                .andExpect(queryCount(1));
+    }
+
+    private static String json(String username, String email, String password) {
+        return "{\"username\":\"" + username + "\",\"email\":\"" + email + "\",\"password\":\"" + password + "\"}";
+    }
+}
@@ -0,0 +1,103 @@
+package com.gjaku1031.templateforagent.support;
+
+import com.github.fppt.jedismock.RedisServer;
+import com.gjaku1031.templateforagent.domain.board.Board;
+import com.gjaku1031.templateforagent.domain.board.BoardRepository;
+import com.gjaku1031.templateforagent.domain.user.User;
+import com.gjaku1031.templateforagent.domain.user.UserRepository;
+import com.gjaku1031.templateforagent.infrastructure.security.jwt.JwtProvider;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * 외부 인프라 없이 앱 전체를 띄우는 API 테스트 기반 클래스
+ * <p>PostgreSQL 호환 모드 H2 + jedis-mock 인프로세스 Redis({@code test} 프로필)로 구성하고,
+ * MockMvc는 서블릿 필터(보안, SQL 문 집계)까지 포함해 실제 요청 경로를 그대로 통과.</p>
+ * <ul>
+ *   <li>하위 클래스는 같은 설정을 공유하므로 컨텍스트/DB/Redis가 클래스 간에 재사용됨</li>
+ *   <li>공용 관리자/일반 사용자는 한 번만 만들고, 상태를 바꾸는 테스트(삭제, 전체 로그아웃 등)는 {@link #newUser}로 별도 사용자 사용</li>
+ * </ul>
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public abstract class OfflineApiTestSupport {
+
+    protected static final String PASSWORD = "password";
+
+    private static final RedisServer REDIS = startRedis();
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+    private static User admin;
+    private static User member;
+
+    @Autowired
+    protected MockMvc mockMvc;
+    @Autowired
+    protected UserRepository userRepository;
+    @Autowired
+    protected BoardRepository boardRepository;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+    @Autowired
+    private JwtProvider jwtProvider;
+
+    @DynamicPropertySource
+    static void redisProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.redis.host", REDIS::getHost);
+        registry.add("spring.data.redis.port", REDIS::getBindPort);
+    }
+
+    protected User admin() {
+        if (admin == null) admin = newUser("ROLE_ADMIN");
+        return admin;
+    }
+
+    protected User member() {
+        if (member == null) member = newUser("ROLE_USER");
+        return member;
+    }
+
+    protected User newUser(String role) {
+        String name = unique("user");
+        return userRepository.save(User.builder()
+                .username(name)
+                .email(name + "@example.com")
+                .password(passwordEncoder.encode(PASSWORD))
+                .role(role)
+                .build());
+    }
+
+    protected Board newBoard(User author, String title, String content) {
+        return boardRepository.save(Board.builder().author(author).title(title).content(content).build());
+    }
+
+    /**
+     * 세션 없이 서명만 한 액세스 토큰 헤더 값(리프레시 세션이 필요 없는 요청용)
+     */
+    protected String bearer(User user) {
+        return "Bearer " + jwtProvider.createAccessToken(user.getId(), user.getUsername(), user.getRole(), jwtProvider.newId());
+    }
+
+    protected static String unique(String prefix) {
+        return prefix + SEQUENCE.incrementAndGet() + "x" + Long.toHexString(System.nanoTime());
+    }
+
+    private static RedisServer startRedis() {
+        try {
+            RedisServer server = RedisServer.newRedisServer();
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
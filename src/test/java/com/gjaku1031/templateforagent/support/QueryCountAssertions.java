@@ -0,0 +1,62 @@
+package com.gjaku1031.templateforagent.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.gjaku1031.templateforagent.infrastructure.persistence.RequestStatementCounter;
+import com.gjaku1031.templateforagent.infrastructure.web.RequestStatementFilter;
+import java.util.function.Supplier;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+/**
+ * 요청/구간당 SQL 문 수 검증 유틸
+ * <p>엔드포인트는 MockMvc 응답의 {@code X-Query-Count} 헤더로, 서비스/리포지토리 호출은 직접 집계 구간을 열어 확인.</p>
+ * <pre>
+ * mockMvc.perform(get("/api/boards/{id}", id).header(AUTHORIZATION, bearer))
+ *        .andExpect(queryCount(1));
+ *
+ * BoardResponse board = assertQueryCount(1, () -&gt; boardService.get(id));
+ * </pre>
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    /**
+     * 응답의 SQL 문 수가 정확히 {@code expected}인지 확인(MockMvc, {@code app.jpa.statement-budget.expose-header=true})
+     */
+    public static ResultMatcher queryCount(int expected) {
+        return result -> {
+            String header = result.getResponse().getHeader(RequestStatementFilter.HEADER);
+            assertThat(header)
+                    .as("%s header (is RequestStatementFilter registered on MockMvc with expose-header=true?)", RequestStatementFilter.HEADER)
+                    .isNotNull();
+            assertThat(Integer.parseInt(header))
+                    .as("SQL statements for %s %s", result.getRequest().getMethod(), result.getRequest().getRequestURI())
+                    .isEqualTo(expected);
+        };
+    }
+
+    /**
+     * {@code action} 실행 중 준비된 SQL 문 수가 정확히 {@code expected}인지 확인
+     *
+     * @return action 결과
+     */
+    public static <T> T assertQueryCount(int expected, Supplier<T> action) {
+        RequestStatementCounter.begin();
+        try {
+            T result = action.get();
+            assertThat(RequestStatementCounter.current()).as("SQL statements").isEqualTo(expected);
+            return result;
+        } finally {
+            RequestStatementCounter.end();
+        }
+    }
+
+    public static void assertQueryCount(int expected, Runnable action) {
+        assertQueryCount(expected, () -> {
+            action.run();
+            return null;
+        });
+    }
+}